@@ -0,0 +1,175 @@
+package ru.practicum.shareit.admission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Concurrency limit for requests handled by the gateway, adjusted with AIMD from server latency:
+ * every completion whose calls to the server took at most {@code latency-threshold} while the limit is
+ * in use raises it by one, a slow or failed completion cuts it by {@code backoff-ratio}. Requests over
+ * the limit are rejected rather than queued, and lower priorities may only use a share of it so mutating
+ * routes keep headroom. Time spent inside the gateway before admission is measured separately and never
+ * moves the limit.
+ */
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final Map<Priority, Double> shares = new EnumMap<>(Priority.class);
+    private final Map<Priority, Counter> rejected = new EnumMap<>(Priority.class);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Timer queueTime;
+    private final LongSupplier nanoClock;
+    private volatile double limit;
+    private long lastDecreaseAt;
+
+    public AdaptiveConcurrencyLimiter(AdmissionProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(AdmissionProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.minLimit = properties.getMinLimit();
+        this.maxLimit = properties.getMaxLimit();
+        this.latencyThresholdNanos = properties.getLatencyThreshold().toNanos();
+        this.backoffRatio = properties.getBackoffRatio();
+        this.limit = Math.clamp(properties.getInitialLimit(), minLimit, maxLimit);
+        this.nanoClock = nanoClock;
+        this.lastDecreaseAt = nanoClock.getAsLong();
+        shares.put(Priority.HIGH, 1.0);
+        shares.put(Priority.NORMAL, properties.getNormalShare());
+        shares.put(Priority.LOW, properties.getLowShare());
+
+        Gauge.builder("shareit.gateway.admission.limit", this, AdaptiveConcurrencyLimiter::limit)
+                .register(meterRegistry);
+        Gauge.builder("shareit.gateway.admission.in-flight", inFlight, AtomicInteger::get)
+                .register(meterRegistry);
+        Gauge.builder("shareit.gateway.admission.queued", queued, AtomicInteger::get)
+                .description("Requests inside the gateway that have not reached the admission decision yet")
+                .register(meterRegistry);
+        queueTime = Timer.builder("shareit.gateway.admission.queue-time")
+                .description("Time from entering the gateway's filter chain to the admission decision")
+                .register(meterRegistry);
+        for (Priority priority : Priority.values()) {
+            rejected.put(priority, Counter.builder("shareit.gateway.admission.rejected")
+                    .tag("priority", priority.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Marks a request as waiting for its admission decision.
+     *
+     * @return the time it started waiting, to pass to {@link #stopWaiting}
+     */
+    public long startWaiting() {
+        queued.incrementAndGet();
+        return nanoClock.getAsLong();
+    }
+
+    /**
+     * Ends a wait started with {@link #startWaiting}. Only waits that reached the admission decision are timed;
+     * requests that never go through admission just leave the queue.
+     */
+    public void stopWaiting(long waitingSince, boolean decided) {
+        queued.decrementAndGet();
+        if (decided) {
+            queueTime.record(nanoClock.getAsLong() - waitingSince, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Admits a request of the given priority if it fits under that priority's share of the limit.
+     *
+     * @return a permit to pass to {@link #release}, or empty if the request must be rejected
+     */
+    public Optional<Permit> tryAcquire(Priority priority) {
+        int allowed = allowed(priority);
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                rejected.get(priority).increment();
+                return Optional.empty();
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return Optional.of(new Permit(nanoClock.getAsLong(), current + 1));
+            }
+        }
+    }
+
+    public void release(Permit permit, boolean failed) {
+        inFlight.decrementAndGet();
+        long now = nanoClock.getAsLong();
+        long upstreamNanos = permit.upstreamNanos();
+        // Requests served without calling the server (cached, rejected by validation) fall back to the time held.
+        long latency = upstreamNanos >= 0 ? upstreamNanos : now - permit.startedAt();
+        boolean dropped = failed || latency > latencyThresholdNanos;
+        synchronized (this) {
+            if (dropped) {
+                // Requests admitted before the last cut saw the old limit; one cut per round trip is enough.
+                if (permit.startedAt() - lastDecreaseAt >= 0) {
+                    limit = Math.max(minLimit, limit * backoffRatio);
+                    lastDecreaseAt = now;
+                    log.debug("Admission limit decreased to {}", limit());
+                }
+            } else if (permit.inFlight() * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1);
+            }
+        }
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    int allowed(Priority priority) {
+        return Math.max(1, (int) (limit * shares.get(priority)));
+    }
+
+    public static final class Permit {
+        private final long startedAt;
+        private final int inFlight;
+        private final AtomicLong upstreamNanos = new AtomicLong(-1);
+
+        Permit(long startedAt, int inFlight) {
+            this.startedAt = startedAt;
+            this.inFlight = inFlight;
+        }
+
+        long startedAt() {
+            return startedAt;
+        }
+
+        int inFlight() {
+            return inFlight;
+        }
+
+        /**
+         * Records one call to the server made on behalf of this request; the slowest call drives the limit.
+         */
+        public void recordUpstreamLatency(long nanos) {
+            upstreamNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        long upstreamNanos() {
+            return upstreamNanos.get();
+        }
+    }
+}
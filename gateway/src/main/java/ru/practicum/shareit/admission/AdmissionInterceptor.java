@@ -0,0 +1,84 @@
+package ru.practicum.shareit.admission;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.Nullable;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import ru.practicum.shareit.error.exception.ServiceOverloadedException;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+public class AdmissionInterceptor implements HandlerInterceptor {
+    static final String WAITING_SINCE_ATTRIBUTE = AdmissionInterceptor.class.getName() + ".waitingSince";
+    private static final String PERMIT_ATTRIBUTE = AdmissionInterceptor.class.getName() + ".permit";
+    private static final Set<String> SAFE_METHODS = Set.of(
+            HttpMethod.GET.name(), HttpMethod.HEAD.name(), HttpMethod.OPTIONS.name());
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final Map<String, Priority> routePriorities = new HashMap<>();
+
+    public AdmissionInterceptor(AdaptiveConcurrencyLimiter limiter, AdmissionProperties properties) {
+        this.limiter = limiter;
+        properties.getRoutes().forEach(route ->
+                routePriorities.put(route(route.getMethod(), route.getPath()), route.getPriority()));
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod)) {
+            return true;
+        }
+
+        String pattern = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = route(request.getMethod(), pattern);
+        if (request.getAttribute(WAITING_SINCE_ATTRIBUTE) instanceof Long waitingSince) {
+            request.removeAttribute(WAITING_SINCE_ATTRIBUTE);
+            limiter.stopWaiting(waitingSince, true);
+        }
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire(priority(route, request.getMethod()))
+                .orElseThrow(() -> new ServiceOverloadedException(route, limiter.inFlight(), limiter.limit()));
+        request.setAttribute(PERMIT_ATTRIBUTE, permit);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof AdaptiveConcurrencyLimiter.Permit permit) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            limiter.release(permit, ex != null || response.getStatus() >= 500);
+        }
+    }
+
+    /**
+     * The permit held by the request bound to the current thread, for recording server latency against it.
+     */
+    @Nullable
+    public static AdaptiveConcurrencyLimiter.Permit currentPermit() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null && attributes.getAttribute(PERMIT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+                instanceof AdaptiveConcurrencyLimiter.Permit permit) {
+            return permit;
+        }
+        return null;
+    }
+
+    private Priority priority(String route, String method) {
+        Priority priority = routePriorities.get(route);
+        if (priority != null) {
+            return priority;
+        }
+        return SAFE_METHODS.contains(method.toUpperCase()) ? Priority.NORMAL : Priority.HIGH;
+    }
+
+    private static String route(String method, String path) {
+        return method.toUpperCase() + " " + path;
+    }
+}
@@ -0,0 +1,37 @@
+package ru.practicum.shareit.admission;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit-gateway.admission")
+public class AdmissionProperties {
+    private boolean enabled = true;
+    private int initialLimit = 50;
+    private int minLimit = 5;
+    private int maxLimit = 500;
+    private Duration latencyThreshold = Duration.ofSeconds(1);
+    private double backoffRatio = 0.9;
+    private double normalShare = 0.9;
+    private double lowShare = 0.7;
+    private List<RoutePriority> routes = new ArrayList<>();
+    /**
+     * Paths that never take a permit themselves. {@code POST /batch} re-dispatches its sub-requests through
+     * the gateway and each of them is admitted on its own, so a permit for the envelope would count it twice.
+     */
+    private List<String> excludedPaths = new ArrayList<>(List.of("/batch"));
+
+    @Getter
+    @Setter
+    public static class RoutePriority {
+        private String method;
+        private String path;
+        private Priority priority;
+    }
+}
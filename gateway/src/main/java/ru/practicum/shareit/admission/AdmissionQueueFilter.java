@@ -0,0 +1,35 @@
+package ru.practicum.shareit.admission;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Starts the admission wait as soon as a request enters the gateway; {@link AdmissionInterceptor} ends it
+ * at the admission decision, and requests that never get there leave the queue here.
+ */
+public class AdmissionQueueFilter extends OncePerRequestFilter {
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    public AdmissionQueueFilter(AdaptiveConcurrencyLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        request.setAttribute(AdmissionInterceptor.WAITING_SINCE_ATTRIBUTE, limiter.startWaiting());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.getAttribute(AdmissionInterceptor.WAITING_SINCE_ATTRIBUTE) instanceof Long waitingSince) {
+                request.removeAttribute(AdmissionInterceptor.WAITING_SINCE_ATTRIBUTE);
+                limiter.stopWaiting(waitingSince, false);
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package ru.practicum.shareit.batch;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.batch.dto.BatchRequestDto;
+import ru.practicum.shareit.batch.dto.BatchResponseDto;
+
+@Slf4j
+@RestController
+@RequestMapping("/batch")
+@RequiredArgsConstructor
+@Validated
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class BatchController {
+    private final BatchDispatcher batchDispatcher;
+
+    @PostMapping
+    public ResponseEntity<BatchResponseDto> execute(
+            @RequestHeader(value = "X-Sharer-User-Id", required = false)
+            @Positive(message = "User id must be a positive number") Long userId,
+            @RequestBody @Valid BatchRequestDto batchRequestDto,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) {
+        log.info("Gateway: POST /batch - execute {} requests for user {}", batchRequestDto.getRequests().size(), userId);
+        return ResponseEntity.ok(batchDispatcher.dispatch(request, response, userId, batchRequestDto.getRequests()));
+    }
+}
@@ -0,0 +1,133 @@
+package ru.practicum.shareit.batch;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.DispatcherServlet;
+import ru.practicum.shareit.batch.dto.BatchResponseDto;
+import ru.practicum.shareit.batch.dto.BatchSubRequestDto;
+import ru.practicum.shareit.batch.dto.BatchSubResponseDto;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs the sub-requests of a batch concurrently through the application's own
+ * {@link DispatcherServlet}, so each one goes through the same controllers, validation,
+ * interceptors and error handling as if it had been sent on its own.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class BatchDispatcher {
+    private static final String USER_ID_HEADER = "X-Sharer-User-Id";
+
+    private final DispatcherServlet dispatcherServlet;
+    private final ObjectMapper objectMapper;
+
+    public BatchResponseDto dispatch(HttpServletRequest batchRequest, HttpServletResponse batchResponse,
+                                     Long userId, List<BatchSubRequestDto> subRequests) {
+        List<Future<BatchSubResponseDto>> futures = new ArrayList<>(subRequests.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (BatchSubRequestDto subRequest : subRequests) {
+                futures.add(executor.submit(() -> execute(batchRequest, batchResponse, userId, subRequest)));
+            }
+        }
+
+        List<BatchSubResponseDto> responses = new ArrayList<>(futures.size());
+        for (int i = 0; i < futures.size(); i++) {
+            responses.add(result(subRequests.get(i), futures.get(i)));
+        }
+        return new BatchResponseDto(responses);
+    }
+
+    private BatchSubResponseDto execute(HttpServletRequest batchRequest, HttpServletResponse batchResponse,
+                                        Long userId, BatchSubRequestDto subRequest)
+            throws IOException, ServletException {
+        HttpHeaders headers = new HttpHeaders();
+        if (userId != null) {
+            headers.set(USER_ID_HEADER, String.valueOf(userId));
+        }
+        if (subRequest.getHeaders() != null) {
+            subRequest.getHeaders().forEach(headers::set);
+        }
+        // The body is embedded in the JSON envelope, so it must come back uncompressed.
+        headers.remove(HttpHeaders.ACCEPT_ENCODING);
+        byte[] body = subRequest.getBody() != null ? objectMapper.writeValueAsBytes(subRequest.getBody()) : new byte[0];
+        if (body.length > 0 && !headers.containsKey(HttpHeaders.CONTENT_TYPE)) {
+            headers.setContentType(MediaType.APPLICATION_JSON);
+        }
+
+        BatchSubRequest request = new BatchSubRequest(batchRequest, subRequest.getMethod(), subRequest.getPath(), headers, body);
+        BatchSubResponse response = new BatchSubResponse(batchResponse);
+        dispatcherServlet.service(request, response);
+
+        return BatchSubResponseDto.builder()
+                .id(subRequest.getId())
+                .status(response.getStatus())
+                .headers(response.headers().toSingleValueMap())
+                .body(toJson(response.headers().getContentType(), response.body()))
+                .build();
+    }
+
+    private BatchSubResponseDto result(BatchSubRequestDto subRequest, Future<BatchSubResponseDto> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return failed(subRequest, e);
+        } catch (ExecutionException e) {
+            return failed(subRequest, e.getCause());
+        }
+    }
+
+    private BatchSubResponseDto failed(BatchSubRequestDto subRequest, Throwable e) {
+        log.error("Batch request {} {} failed: {}", subRequest.getMethod(), subRequest.getPath(), e.getMessage());
+        Map<String, Object> error = new LinkedHashMap<>();
+        error.put("error", HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase());
+        error.put("message", e.getMessage());
+        error.put("status", HttpStatus.INTERNAL_SERVER_ERROR.value());
+        return BatchSubResponseDto.builder()
+                .id(subRequest.getId())
+                .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
+                .body(writeJson(error))
+                .build();
+    }
+
+    private String toJson(MediaType contentType, byte[] body) {
+        if (body.length == 0) {
+            return null;
+        }
+        String text = new String(body, StandardCharsets.UTF_8);
+        if (contentType != null && contentType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+            return text;
+        }
+        return writeJson(text);
+    }
+
+    private String writeJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
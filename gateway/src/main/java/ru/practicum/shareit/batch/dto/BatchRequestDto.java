@@ -0,0 +1,21 @@
+package ru.practicum.shareit.batch.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchRequestDto {
+    @NotEmpty(message = "Batch must contain at least one request")
+    @Size(max = 20, message = "Batch cannot contain more than 20 requests")
+    private List<@Valid BatchSubRequestDto> requests;
+}
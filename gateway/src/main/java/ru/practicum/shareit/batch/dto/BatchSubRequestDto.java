@@ -0,0 +1,32 @@
+package ru.practicum.shareit.batch.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchSubRequestDto {
+    private String id;
+
+    @NotNull(message = "Method must be specified")
+    @Pattern(regexp = "GET|POST|PATCH|DELETE", message = "Method must be one of GET, POST, PATCH, DELETE")
+    private String method;
+
+    @NotBlank(message = "Path cannot be empty")
+    @Pattern(regexp = "^/(?!batch(?:[/?]|$)).*", message = "Path must start with / and cannot point to /batch")
+    private String path;
+
+    private Map<String, String> headers;
+
+    private JsonNode body;
+}
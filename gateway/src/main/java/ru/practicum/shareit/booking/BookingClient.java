@@ -1,36 +1,53 @@
 package ru.practicum.shareit.booking;
 
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 
+import ru.practicum.shareit.booking.dto.BookingDecisionDto;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ResponseCacheConfig;
 
 @Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class BookingClient extends BaseClient {
     private static final String API_PREFIX = "/bookings";
 
     @Autowired
-    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public BookingClient(
+            @Value("${shareit-server.url}") String serverUrl,
+            @Value("${shareit-server.pass-through}") boolean passThrough,
+            RestTemplateBuilder builder,
+            ClientHttpRequestFactory shareitServerRequestFactory
+    ) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-                        .build()
+                        .requestFactory(() -> shareitServerRequestFactory)
+                        .build(),
+                passThrough
         );
     }
 
+    @CacheEvict(cacheNames = ResponseCacheConfig.ITEMS, allEntries = true)
     public ResponseEntity<Object> addBooking(Long userId, BookingRequestDto requestDto) {
         return post("", userId, requestDto);
     }
 
+    @CacheEvict(cacheNames = ResponseCacheConfig.ITEMS, allEntries = true)
     public ResponseEntity<Object> updateStatus(Long userId, Long bookingId, Boolean approved) {
         Map<String, Object> parameters = Map.of(
                 "bookingId", bookingId,
@@ -39,17 +56,42 @@ public class BookingClient extends BaseClient {
         return patch("/{bookingId}?approved={approved}", userId, parameters, null);
     }
 
+    @CacheEvict(cacheNames = ResponseCacheConfig.ITEMS, allEntries = true)
+    public ResponseEntity<Object> decideBookings(Long userId, List<BookingDecisionDto> decisions) {
+        return patch("", userId, decisions);
+    }
+
     public ResponseEntity<Object> getBookingById(Long userId, Long bookingId) {
-        return get("/" + bookingId, userId);
+        return hedgedGet("/" + bookingId, userId);
+    }
+
+    public ResponseEntity<Object> getBookingsByBooker(Long userId, String state, @Nullable String cursor,
+            @Nullable Integer size) {
+        Map<String, Object> parameters = listParameters(state, cursor, size);
+        return get(listPath("", parameters), userId, parameters);
+    }
+
+    public ResponseEntity<Object> getBookingsByOwner(Long userId, String state, @Nullable String cursor,
+            @Nullable Integer size) {
+        Map<String, Object> parameters = listParameters(state, cursor, size);
+        return get(listPath("/owner", parameters), userId, parameters);
     }
 
-    public ResponseEntity<Object> getBookingsByBooker(Long userId, String state) {
-        Map<String, Object> parameters = Map.of("state", state);
-        return get("?state={state}", userId, parameters);
+    private static Map<String, Object> listParameters(String state, @Nullable String cursor, @Nullable Integer size) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("state", state);
+        if (cursor != null) {
+            parameters.put("cursor", cursor);
+        }
+        if (size != null) {
+            parameters.put("size", size);
+        }
+        return parameters;
     }
 
-    public ResponseEntity<Object> getBookingsByOwner(Long userId, String state) {
-        Map<String, Object> parameters = Map.of("state", state);
-        return get("/owner?state={state}", userId, parameters);
+    private static String listPath(String path, Map<String, Object> parameters) {
+        return parameters.keySet().stream()
+                .map(name -> name + "={" + name + "}")
+                .collect(Collectors.joining("&", path + "?", ""));
     }
 }
\ No newline at end of file
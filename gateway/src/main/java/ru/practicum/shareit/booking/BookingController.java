@@ -1,22 +1,29 @@
 package ru.practicum.shareit.booking;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import ru.practicum.shareit.booking.dto.BookingDecisionDto;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 
+import java.util.List;
+
 
 @Controller
 @RequestMapping(path = "/bookings")
 @RequiredArgsConstructor
 @Slf4j
 @Validated
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class BookingController {
     private final ru.practicum.shareit.booking.BookingClient bookingClient;
 
@@ -39,6 +46,18 @@ public class BookingController {
         return bookingClient.updateStatus(userId, bookingId, approved);
     }
 
+    @PatchMapping
+    public ResponseEntity<Object> decideBookings(
+            @RequestHeader("X-Sharer-User-Id") @Positive(message = "User id must be a positive number") Long userId,
+            @RequestBody
+            @NotEmpty(message = "At least one decision must be specified")
+            @Size(max = 100, message = "Cannot decide more than 100 bookings at once")
+            List<@Valid BookingDecisionDto> decisions
+    ) {
+        log.info("Gateway: PATCH /bookings - {} decisions by user {}", decisions.size(), userId);
+        return bookingClient.decideBookings(userId, decisions);
+    }
+
     @GetMapping("/{bookingId}")
     public ResponseEntity<Object> getBookingById(
             @RequestHeader("X-Sharer-User-Id") @Positive(message = "User id must be a positive number") Long userId,
@@ -51,18 +70,24 @@ public class BookingController {
     @GetMapping
     public ResponseEntity<Object> getBookingsByBooker(
             @RequestHeader("X-Sharer-User-Id") @Positive(message = "User id must be a positive number") Long userId,
-            @RequestParam(defaultValue = "ALL") String state
+            @RequestParam(defaultValue = "ALL") String state,
+            @RequestParam(required = false) String cursor,
+            @Positive(message = "Page size must be a positive number") @RequestParam(required = false) Integer size
     ) {
-        log.info("Gateway: GET /bookings - get bookings by booker {}, state: {}", userId, state);
-        return bookingClient.getBookingsByBooker(userId, state);
+        log.info("Gateway: GET /bookings - get bookings by booker {}, state: {}, cursor: {}, size: {}",
+                userId, state, cursor, size);
+        return bookingClient.getBookingsByBooker(userId, state, cursor, size);
     }
 
     @GetMapping("/owner")
     public ResponseEntity<Object> getBookingsByOwner(
             @RequestHeader("X-Sharer-User-Id") @Positive(message = "User id must be a positive number") Long userId,
-            @RequestParam(defaultValue = "ALL") String state
+            @RequestParam(defaultValue = "ALL") String state,
+            @RequestParam(required = false) String cursor,
+            @Positive(message = "Page size must be a positive number") @RequestParam(required = false) Integer size
     ) {
-        log.info("Gateway: GET /bookings/owner - get bookings by owner {}, state: {}", userId, state);
-        return bookingClient.getBookingsByOwner(userId, state);
+        log.info("Gateway: GET /bookings/owner - get bookings by owner {}, state: {}, cursor: {}, size: {}",
+                userId, state, cursor, size);
+        return bookingClient.getBookingsByOwner(userId, state, cursor, size);
     }
 }
\ No newline at end of file
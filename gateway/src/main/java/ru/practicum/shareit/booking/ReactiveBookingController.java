@@ -0,0 +1,95 @@
+package ru.practicum.shareit.booking;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import ru.practicum.shareit.booking.dto.BookingDecisionDto;
+import ru.practicum.shareit.booking.dto.BookingRequestDto;
+
+import java.util.List;
+
+
+@RestController
+@RequestMapping(path = "/bookings")
+@RequiredArgsConstructor
+@Slf4j
+@Validated
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveBookingController {
+    private final ReactiveBookingClient bookingClient;
+
+    @PostMapping
+    public Mono<ResponseEntity<Flux<DataBuffer>>> addBooking(
+            @RequestHeader("X-Sharer-User-Id") @Positive(message = "User id must be a positive number") Long userId,
+            @RequestBody @Valid BookingRequestDto bookingRequestDto
+    ) {
+        log.info("Gateway (reactive): POST /bookings - add booking by user {}", userId);
+        return bookingClient.addBooking(userId, bookingRequestDto);
+    }
+
+    @PatchMapping("/{bookingId}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> updateStatus(
+            @RequestHeader("X-Sharer-User-Id") @Positive(message = "User id must be a positive number") Long userId,
+            @PathVariable @Positive(message = "Booking id must be a positive number") Long bookingId,
+            @RequestParam Boolean approved
+    ) {
+        log.info("Gateway (reactive): PATCH /bookings/{} - update status to {} by user {}", bookingId, approved, userId);
+        return bookingClient.updateStatus(userId, bookingId, approved);
+    }
+
+    @PatchMapping
+    public Mono<ResponseEntity<Flux<DataBuffer>>> decideBookings(
+            @RequestHeader("X-Sharer-User-Id") @Positive(message = "User id must be a positive number") Long userId,
+            @RequestBody
+            @NotEmpty(message = "At least one decision must be specified")
+            @Size(max = 100, message = "Cannot decide more than 100 bookings at once")
+            List<@Valid BookingDecisionDto> decisions
+    ) {
+        log.info("Gateway (reactive): PATCH /bookings - {} decisions by user {}", decisions.size(), userId);
+        return bookingClient.decideBookings(userId, decisions);
+    }
+
+    @GetMapping("/{bookingId}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getBookingById(
+            @RequestHeader("X-Sharer-User-Id") @Positive(message = "User id must be a positive number") Long userId,
+            @PathVariable @Positive(message = "Booking id must be a positive number") Long bookingId
+    ) {
+        log.info("Gateway (reactive): GET /bookings/{} - get booking by user {}", bookingId, userId);
+        return bookingClient.getBookingById(userId, bookingId);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getBookingsByBooker(
+            @RequestHeader("X-Sharer-User-Id") @Positive(message = "User id must be a positive number") Long userId,
+            @RequestParam(defaultValue = "ALL") String state,
+            @RequestParam(required = false) String cursor,
+            @Positive(message = "Page size must be a positive number") @RequestParam(required = false) Integer size
+    ) {
+        log.info("Gateway (reactive): GET /bookings - get bookings by booker {}, state: {}, cursor: {}, size: {}",
+                userId, state, cursor, size);
+        return bookingClient.getBookingsByBooker(userId, state, cursor, size);
+    }
+
+    @GetMapping("/owner")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getBookingsByOwner(
+            @RequestHeader("X-Sharer-User-Id") @Positive(message = "User id must be a positive number") Long userId,
+            @RequestParam(defaultValue = "ALL") String state,
+            @RequestParam(required = false) String cursor,
+            @Positive(message = "Page size must be a positive number") @RequestParam(required = false) Integer size
+    ) {
+        log.info("Gateway (reactive): GET /bookings/owner - get bookings by owner {}, state: {}, cursor: {}, size: {}",
+                userId, state, cursor, size);
+        return bookingClient.getBookingsByOwner(userId, state, cursor, size);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,21 @@
+package ru.practicum.shareit.booking.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookingDecisionDto {
+    @NotNull(message = "Booking id must be specified")
+    @Positive(message = "Booking id must be a positive number")
+    private Long bookingId;
+
+    @NotNull(message = "Decision must be specified")
+    private Boolean approved;
+}
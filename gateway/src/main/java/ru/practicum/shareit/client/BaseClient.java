@@ -2,21 +2,56 @@ package ru.practicum.shareit.client;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import ru.practicum.shareit.admission.AdaptiveConcurrencyLimiter;
+import ru.practicum.shareit.admission.AdmissionInterceptor;
 
 public class BaseClient {
     protected final RestTemplate rest;
+    private final boolean passThrough;
+    private final ConcurrentMap<InFlightGet, CompletableFuture<ResponseEntity<Object>>> inFlightGets =
+            new ConcurrentHashMap<>();
+    @Nullable
+    private RequestHedger hedger;
+    @Nullable
+    private MeterRegistry meterRegistry;
 
     public BaseClient(RestTemplate rest) {
+        this(rest, true);
+    }
+
+    public BaseClient(RestTemplate rest, boolean passThrough) {
         this.rest = rest;
+        this.passThrough = passThrough;
+    }
+
+    @Autowired(required = false)
+    public void setRequestHedger(RequestHedger hedger) {
+        this.hedger = hedger;
+    }
+
+    @Autowired(required = false)
+    public void setMeterRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
     }
 
     protected ResponseEntity<Object> get(String path) {
@@ -31,6 +66,14 @@ public class BaseClient {
         return makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null);
     }
 
+    /**
+     * Like {@link #get(String, long)}, but hedged when {@code shareit-server.hedging.enabled} is set.
+     * Only for idempotent routes: the server may see the request twice.
+     */
+    protected ResponseEntity<Object> hedgedGet(String path, long userId) {
+        return coalescedGet(path, userId, null, true);
+    }
+
     protected <T> ResponseEntity<Object> post(String path, T body) {
         return post(path, null, null, body);
     }
@@ -80,7 +123,103 @@ public class BaseClient {
     }
 
     private <T> ResponseEntity<Object> makeAndSendRequest(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body) {
-        HttpEntity<T> requestEntity = new HttpEntity<>(body, defaultHeaders(userId));
+        if (method == HttpMethod.GET) {
+            return coalescedGet(path, userId, parameters, false);
+        }
+        return sendRequest(method, path, userId, parameters, body, null, AdmissionInterceptor.currentPermit());
+    }
+
+    private ResponseEntity<Object> coalescedGet(String path, Long userId, @Nullable Map<String, Object> parameters,
+                                                boolean hedged) {
+        String ifNoneMatch = passThrough ? currentRequestHeader(HttpHeaders.IF_NONE_MATCH) : null;
+        // Captured here: hedged calls run on other threads, where the caller's request is not bound.
+        AdaptiveConcurrencyLimiter.Permit permit = AdmissionInterceptor.currentPermit();
+        Supplier<ResponseEntity<Object>> request =
+                () -> sendRequest(HttpMethod.GET, path, userId, parameters, null, ifNoneMatch, permit);
+        RequestHedger requestHedger = hedged ? hedger : null;
+        return coalesce(new InFlightGet(path, userId, parameters, ifNoneMatch), requestHedger == null
+                ? request
+                : () -> requestHedger.call(ClassUtils.getUserClass(this).getSimpleName(), request));
+    }
+
+    private ResponseEntity<Object> coalesce(InFlightGet key, Supplier<ResponseEntity<Object>> request) {
+        CompletableFuture<ResponseEntity<Object>> call = new CompletableFuture<>();
+        CompletableFuture<ResponseEntity<Object>> inFlight = inFlightGets.putIfAbsent(key, call);
+        if (inFlight != null) {
+            return awaitInFlight(inFlight);
+        }
+
+        try {
+            ResponseEntity<Object> response = request.get();
+            call.complete(response);
+            return response;
+        } catch (Throwable e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightGets.remove(key, call);
+        }
+    }
+
+    private static ResponseEntity<Object> awaitInFlight(CompletableFuture<ResponseEntity<Object>> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private <T> ResponseEntity<Object> sendRequest(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body, @Nullable String ifNoneMatch, @Nullable AdaptiveConcurrencyLimiter.Permit permit) {
+        if (permit == null) {
+            return timedExchange(method, path, userId, parameters, body, ifNoneMatch);
+        }
+
+        // The admission limit adapts to how long the server takes, not to time spent queued in the gateway.
+        long startedAt = System.nanoTime();
+        try {
+            return timedExchange(method, path, userId, parameters, body, ifNoneMatch);
+        } finally {
+            permit.recordUpstreamLatency(System.nanoTime() - startedAt);
+        }
+    }
+
+    private <T> ResponseEntity<Object> timedExchange(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body, @Nullable String ifNoneMatch) {
+        MeterRegistry registry = meterRegistry;
+        if (registry == null) {
+            return exchange(method, path, userId, parameters, body, ifNoneMatch);
+        }
+
+        Timer.Sample sample = Timer.start(registry);
+        String status = "CLIENT_ERROR";
+        String exception = "none";
+        try {
+            ResponseEntity<Object> response = exchange(method, path, userId, parameters, body, ifNoneMatch);
+            status = String.valueOf(response.getStatusCode().value());
+            return response;
+        } catch (RuntimeException e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("shareit.server.client.requests")
+                    .description("Calls from the gateway to the server, per client")
+                    .tags("client", ClassUtils.getUserClass(this).getSimpleName(), "method", method.name(),
+                            "status", status, "exception", exception)
+                    .register(registry));
+        }
+    }
+
+    private <T> ResponseEntity<Object> exchange(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body, @Nullable String ifNoneMatch) {
+        HttpEntity<T> requestEntity = new HttpEntity<>(body, defaultHeaders(userId, ifNoneMatch));
+
+        if (passThrough) {
+            return exchangeRaw(method, path, parameters, requestEntity);
+        }
 
         ResponseEntity<Object> shareitServerResponse;
         try {
@@ -95,16 +234,54 @@ public class BaseClient {
         return prepareGatewayResponse(shareitServerResponse);
     }
 
-    private HttpHeaders defaultHeaders(Long userId) {
+    private <T> ResponseEntity<Object> exchangeRaw(HttpMethod method, String path, @Nullable Map<String, Object> parameters, HttpEntity<T> requestEntity) {
+        ResponseEntity<byte[]> shareitServerResponse;
+        try {
+            if (parameters != null) {
+                shareitServerResponse = rest.exchange(path, method, requestEntity, byte[].class, parameters);
+            } else {
+                shareitServerResponse = rest.exchange(path, method, requestEntity, byte[].class);
+            }
+        } catch (HttpStatusCodeException e) {
+            return ResponseEntity.status(e.getStatusCode())
+                    .headers(ProxyHeaders.forwarded(e.getResponseHeaders()))
+                    .body(e.getResponseBodyAsByteArray());
+        }
+
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(shareitServerResponse.getStatusCode())
+                .headers(ProxyHeaders.forwarded(shareitServerResponse.getHeaders()));
+
+        if (shareitServerResponse.hasBody()) {
+            return responseBuilder.body(shareitServerResponse.getBody());
+        }
+
+        return responseBuilder.build();
+    }
+
+    private HttpHeaders defaultHeaders(Long userId, @Nullable String ifNoneMatch) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
         headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        if (passThrough) {
+            headers.set(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        }
+        if (ifNoneMatch != null) {
+            headers.set(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
         if (userId != null) {
             headers.set("X-Sharer-User-Id", String.valueOf(userId));
         }
         return headers;
     }
 
+    @Nullable
+    private static String currentRequestHeader(String name) {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return attributes.getRequest().getHeader(name);
+        }
+        return null;
+    }
+
     private static ResponseEntity<Object> prepareGatewayResponse(ResponseEntity<Object> response) {
         if (response.getStatusCode().is2xxSuccessful()) {
             return response;
@@ -118,4 +295,8 @@ public class BaseClient {
 
         return responseBuilder.build();
     }
+
+    private record InFlightGet(String path, @Nullable Long userId, @Nullable Map<String, Object> parameters,
+                               @Nullable String ifNoneMatch) {
+    }
 }
\ No newline at end of file
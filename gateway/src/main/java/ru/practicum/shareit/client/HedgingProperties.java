@@ -0,0 +1,28 @@
+package ru.practicum.shareit.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit-server.hedging")
+public class HedgingProperties {
+    private boolean enabled = false;
+    /**
+     * Delay before the duplicate request while fewer than {@code min-samples} latencies have been observed.
+     */
+    private Duration delay = Duration.ofMillis(50);
+    /**
+     * Latency percentile of the client's own calls used as the delay once enough samples exist.
+     */
+    private double delayPercentile = 0.95;
+    private Duration minDelay = Duration.ofMillis(5);
+    private int minSamples = 100;
+    /**
+     * Hedges allowed as a percentage of hedgeable requests.
+     */
+    private double budgetPercent = 5;
+}
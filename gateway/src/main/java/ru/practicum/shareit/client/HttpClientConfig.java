@@ -0,0 +1,150 @@
+package ru.practicum.shareit.client;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestTemplateCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.util.List;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@EnableConfigurationProperties({HttpClientProperties.class, LoadBalancerProperties.class, HedgingProperties.class})
+@Import({HttpClientConfig.Http11ClientConfig.class, HttpClientConfig.H2cClientConfig.class})
+public class HttpClientConfig {
+
+    @Bean
+    @Order(0)
+    public RestTemplateCustomizer shareitServerResilienceCustomizer(
+            @Value("${shareit-server.url}") String serverUrl,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            BulkheadRegistry bulkheadRegistry
+    ) {
+        ResilienceInterceptor interceptor = new ResilienceInterceptor(serverUrl, circuitBreakerRegistry, bulkheadRegistry);
+        return restTemplate -> restTemplate.getInterceptors().add(interceptor);
+    }
+
+    @Bean
+    public LoadBalancer shareitServerLoadBalancer(
+            @Value("${shareit-server.url}") String serverUrl,
+            LoadBalancerProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        List<URI> instances = properties.getInstances().isEmpty()
+                ? List.of(URI.create(serverUrl))
+                : properties.getInstances();
+        return new LoadBalancer(instances, properties, meterRegistry);
+    }
+
+    @Bean
+    @Order(1)
+    public RestTemplateCustomizer shareitServerLoadBalancingCustomizer(
+            @Value("${shareit-server.url}") String serverUrl,
+            LoadBalancer shareitServerLoadBalancer
+    ) {
+        LoadBalancingInterceptor interceptor = new LoadBalancingInterceptor(serverUrl, shareitServerLoadBalancer);
+        return restTemplate -> restTemplate.getInterceptors().add(interceptor);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "shareit-server.hedging", name = "enabled", havingValue = "true")
+    public RequestHedger shareitServerRequestHedger(HedgingProperties properties, MeterRegistry meterRegistry) {
+        return new RequestHedger(properties, meterRegistry);
+    }
+
+    @ConditionalOnProperty(prefix = "shareit-server.http-client", name = "protocol", havingValue = "http_1_1",
+            matchIfMissing = true)
+    static class Http11ClientConfig {
+
+        @Bean(destroyMethod = "close")
+        public PoolingHttpClientConnectionManager shareitServerConnectionManager(HttpClientProperties properties) {
+            return PoolingHttpClientConnectionManagerBuilder.create()
+                    .setMaxConnTotal(properties.getMaxTotal())
+                    .setMaxConnPerRoute(properties.getMaxPerRoute())
+                    .setDefaultConnectionConfig(ConnectionConfig.custom()
+                            .setConnectTimeout(Timeout.of(properties.getConnectTimeout()))
+                            .setTimeToLive(TimeValue.of(properties.getTimeToLive()))
+                            .setValidateAfterInactivity(TimeValue.of(properties.getValidateAfterInactivity()))
+                            .build())
+                    .build();
+        }
+
+        @Bean(destroyMethod = "close")
+        public CloseableHttpClient shareitServerHttpClient(
+                PoolingHttpClientConnectionManager shareitServerConnectionManager,
+                HttpClientProperties properties
+        ) {
+            return HttpClients.custom()
+                    .setConnectionManager(shareitServerConnectionManager)
+                    .setDefaultRequestConfig(RequestConfig.custom()
+                            .setConnectionRequestTimeout(Timeout.of(properties.getConnectionRequestTimeout()))
+                            .setResponseTimeout(Timeout.of(properties.getResponseTimeout()))
+                            .build())
+                    .disableContentCompression()
+                    .evictExpiredConnections()
+                    .evictIdleConnections(TimeValue.of(properties.getIdleEviction()))
+                    .build();
+        }
+
+        @Bean
+        public ClientHttpRequestFactory shareitServerRequestFactory(CloseableHttpClient shareitServerHttpClient) {
+            return new HttpComponentsClientHttpRequestFactory(shareitServerHttpClient);
+        }
+
+        @Bean
+        public PoolingHttpClientConnectionManagerMetricsBinder shareitServerConnectionPoolMetrics(
+                PoolingHttpClientConnectionManager shareitServerConnectionManager
+        ) {
+            return new PoolingHttpClientConnectionManagerMetricsBinder(shareitServerConnectionManager, "shareit-server");
+        }
+    }
+
+    /**
+     * Cleartext HTTP/2 through the JDK client: the first request to the server carries
+     * {@code Upgrade: h2c}, after which calls are multiplexed as streams over one connection.
+     * A server that does not accept the upgrade keeps being spoken to over HTTP/1.1.
+     */
+    @ConditionalOnProperty(prefix = "shareit-server.http-client", name = "protocol", havingValue = "h2c")
+    static class H2cClientConfig {
+
+        @Bean
+        public HttpClient shareitServerHttpClient(HttpClientProperties properties) {
+            return HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_2)
+                    .connectTimeout(properties.getConnectTimeout())
+                    .build();
+        }
+
+        @Bean
+        public ClientHttpRequestFactory shareitServerRequestFactory(
+                HttpClient shareitServerHttpClient,
+                HttpClientProperties properties
+        ) {
+            JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(shareitServerHttpClient);
+            requestFactory.setReadTimeout(properties.getResponseTimeout());
+            return requestFactory;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Picks the server instance with the fewest in-flight requests. An instance that fails
+ * {@code failureThreshold} calls in a row is ejected for {@code ejectionDuration} and, once back,
+ * receives a share of traffic that ramps up linearly over {@code slowStart}.
+ */
+@Slf4j
+public class LoadBalancer {
+    private static final double MIN_WEIGHT = 0.1;
+
+    private final List<Instance> instances;
+    private final int failureThreshold;
+    private final long ejectionNanos;
+    private final long slowStartNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger nextStart = new AtomicInteger();
+
+    public LoadBalancer(List<URI> uris, LoadBalancerProperties properties, MeterRegistry meterRegistry) {
+        this(uris, properties, meterRegistry, System::nanoTime);
+    }
+
+    LoadBalancer(List<URI> uris, LoadBalancerProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        if (uris.isEmpty()) {
+            throw new IllegalArgumentException("At least one server instance is required");
+        }
+        this.failureThreshold = properties.getFailureThreshold();
+        this.ejectionNanos = properties.getEjectionDuration().toNanos();
+        this.slowStartNanos = properties.getSlowStart().toNanos();
+        this.nanoClock = nanoClock;
+        this.instances = uris.stream()
+                .map(uri -> new Instance(uri, meterRegistry))
+                .toList();
+    }
+
+    public Instance choose() {
+        long now = nanoClock.getAsLong();
+        int size = instances.size();
+        int start = Math.floorMod(nextStart.getAndIncrement(), size);
+
+        Instance best = null;
+        double bestScore = Double.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            Instance instance = instances.get((start + i) % size);
+            if (instance.isEjected(now)) {
+                continue;
+            }
+            double score = (instance.inFlight.get() + 1) / instance.weight(now);
+            if (score < bestScore) {
+                best = instance;
+                bestScore = score;
+            }
+        }
+        return best != null ? best : leastRecentlyEjected();
+    }
+
+    public List<Instance> instances() {
+        return instances;
+    }
+
+    private Instance leastRecentlyEjected() {
+        Instance best = instances.getFirst();
+        for (Instance instance : instances) {
+            if (instance.ejectedUntil - best.ejectedUntil < 0) {
+                best = instance;
+            }
+        }
+        return best;
+    }
+
+    public class Instance {
+        private final URI uri;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private final Timer latency;
+        private volatile long ejectedUntil;
+
+        Instance(URI uri, MeterRegistry meterRegistry) {
+            this.uri = uri;
+            this.ejectedUntil = nanoClock.getAsLong() - slowStartNanos;
+            String tag = uri.getAuthority();
+            this.latency = Timer.builder("shareit.server.instance.latency")
+                    .description("Latency of calls to a shareit-server instance")
+                    .tag("instance", tag)
+                    .register(meterRegistry);
+            Gauge.builder("shareit.server.instance.in-flight", inFlight, AtomicInteger::get)
+                    .description("Requests currently in flight to a shareit-server instance")
+                    .tag("instance", tag)
+                    .register(meterRegistry);
+            Gauge.builder("shareit.server.instance.ejected", this, instance -> instance.isEjected(nanoClock.getAsLong()) ? 1 : 0)
+                    .description("1 while the instance is ejected after consecutive failures")
+                    .tag("instance", tag)
+                    .register(meterRegistry);
+        }
+
+        public URI uri() {
+            return uri;
+        }
+
+        public int inFlight() {
+            return inFlight.get();
+        }
+
+        long start() {
+            inFlight.incrementAndGet();
+            return nanoClock.getAsLong();
+        }
+
+        void finish(long startedAt, boolean failed) {
+            long now = nanoClock.getAsLong();
+            inFlight.decrementAndGet();
+            latency.record(now - startedAt, TimeUnit.NANOSECONDS);
+            if (!failed) {
+                consecutiveFailures.set(0);
+            } else if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+                consecutiveFailures.set(0);
+                ejectedUntil = now + ejectionNanos;
+                log.warn("Ejecting shareit-server instance {} for {}", uri, Duration.ofNanos(ejectionNanos));
+            }
+        }
+
+        boolean isEjected(long now) {
+            return now - ejectedUntil < 0;
+        }
+
+        double weight(long now) {
+            long warmedFor = now - ejectedUntil;
+            if (warmedFor >= slowStartNanos) {
+                return 1;
+            }
+            return Math.max(MIN_WEIGHT, (double) warmedFor / slowStartNanos);
+        }
+    }
+}
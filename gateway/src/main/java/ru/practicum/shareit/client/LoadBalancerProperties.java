@@ -0,0 +1,23 @@
+package ru.practicum.shareit.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit-server.load-balancer")
+public class LoadBalancerProperties {
+    /**
+     * Server instances as {@code scheme://host:port}; empty means {@code shareit-server.url} only.
+     */
+    private List<URI> instances = new ArrayList<>();
+    private int failureThreshold = 3;
+    private Duration ejectionDuration = Duration.ofSeconds(30);
+    private Duration slowStart = Duration.ofSeconds(30);
+}
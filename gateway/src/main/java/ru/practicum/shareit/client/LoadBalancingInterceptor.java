@@ -0,0 +1,56 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.support.HttpRequestWrapper;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+
+/**
+ * Sends each call addressed to {@code shareit-server.url} to the instance chosen by the {@link LoadBalancer},
+ * keeping the path and query. 5xx responses and I/O errors count against the instance.
+ */
+public class LoadBalancingInterceptor implements ClientHttpRequestInterceptor {
+    private final String serverAuthority;
+    private final LoadBalancer loadBalancer;
+
+    public LoadBalancingInterceptor(String serverUrl, LoadBalancer loadBalancer) {
+        this.serverAuthority = URI.create(serverUrl).getAuthority();
+        this.loadBalancer = loadBalancer;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        if (!serverAuthority.equals(request.getURI().getAuthority())) {
+            return execution.execute(request, body);
+        }
+
+        LoadBalancer.Instance instance = loadBalancer.choose();
+        URI target = UriComponentsBuilder.fromUri(request.getURI())
+                .scheme(instance.uri().getScheme())
+                .host(instance.uri().getHost())
+                .port(instance.uri().getPort())
+                .build(true)
+                .toUri();
+
+        long startedAt = instance.start();
+        try {
+            ClientHttpResponse response = execution.execute(new HttpRequestWrapper(request) {
+                @Override
+                public URI getURI() {
+                    return target;
+                }
+            }, body);
+            boolean failed = response.getStatusCode().is5xxServerError();
+            return new ReleasingResponse(response, () -> instance.finish(startedAt, failed));
+        } catch (IOException | RuntimeException e) {
+            instance.finish(startedAt, true);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package ru.practicum.shareit.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.web.reactive.function.client.ReactorNettyHttpClientMapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.reactive.ServerWebExchangeContextFilter;
+
+@Slf4j
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveClientConfig {
+
+    public ReactiveClientConfig() {
+        log.warn("Reactive gateway: rate limiting, admission control, response caching, resilience, "
+                + "load balancing, hedging and request coalescing are only available with "
+                + "spring.main.web-application-type=servlet");
+    }
+
+    /**
+     * Lets {@link ReactiveBaseClient} read the caller's conditional and encoding headers.
+     */
+    @Bean
+    public ServerWebExchangeContextFilter serverWebExchangeContextFilter() {
+        return new ServerWebExchangeContextFilter();
+    }
+
+    /**
+     * Spring's Reactor connector inflates gzip by default, which would strip {@code Content-Encoding} and
+     * hand gzip-accepting callers a plain body; the server's bytes are streamed through as sent instead.
+     */
+    @Bean
+    public ReactorNettyHttpClientMapper passThroughEncoding() {
+        return httpClient -> httpClient.compress(false);
+    }
+}
@@ -0,0 +1,176 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Sends a duplicate of an idempotent request when the first has not answered within the client's
+ * observed {@code delay-percentile} latency and returns whichever succeeds first. Each request earns
+ * {@code budget-percent} of a hedge, so duplicates add at most that share of load to the server.
+ * The slower call is left to finish so its connection goes back to the pool.
+ */
+public class RequestHedger implements AutoCloseable {
+    private static final long TOKENS_PER_HEDGE = 10_000;
+    private static final long MAX_TOKENS = 10 * TOKENS_PER_HEDGE;
+    private static final long DELAY_REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final HedgingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ConcurrentMap<String, ClientState> clients = new ConcurrentHashMap<>();
+
+    public RequestHedger(HedgingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T call(String client, Supplier<T> request) {
+        ClientState state = clients.computeIfAbsent(client, ClientState::new);
+        state.requests.increment();
+        state.deposit();
+
+        long startedAt = System.nanoTime();
+        CompletableFuture<T> primary = CompletableFuture.supplyAsync(request, executor);
+        primary.whenComplete((response, e) ->
+                state.latency.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS));
+        try {
+            return primary.get(state.delayNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // Slower than usual: hedge below.
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the server", e);
+        }
+
+        if (!state.withdraw()) {
+            state.budgetExhausted.increment();
+            return await(primary);
+        }
+        state.hedges.increment();
+        CompletableFuture<T> hedge = CompletableFuture.supplyAsync(request, executor);
+
+        CompletableFuture<T> first = new CompletableFuture<>();
+        // Number of failed calls, or 2 once a response has been taken: both mean the other call no longer matters.
+        AtomicInteger failures = new AtomicInteger();
+        primary.whenComplete((response, e) -> complete(first, response, e, failures, null));
+        hedge.whenComplete((response, e) -> complete(first, response, e, failures, state.wins));
+        return await(first);
+    }
+
+    @Override
+    public void close() {
+        executor.close();
+    }
+
+    private static <T> void complete(CompletableFuture<T> first, T response, Throwable e, AtomicInteger failures,
+                                     @Nullable Counter wins) {
+        if (e != null) {
+            if (failures.incrementAndGet() == 2) {
+                first.completeExceptionally(e);
+            }
+            return;
+        }
+        if (failures.getAndSet(2) < 2) {
+            if (wins != null) {
+                wins.increment();
+            }
+            first.complete(response);
+        }
+    }
+
+    private static <T> T await(CompletableFuture<T> call) {
+        try {
+            return call.get();
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the server", e);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    private class ClientState {
+        final Timer latency;
+        final Counter requests;
+        final Counter hedges;
+        final Counter wins;
+        final Counter budgetExhausted;
+        final AtomicLong tokens = new AtomicLong();
+        volatile long delayNanos = properties.getDelay().toNanos();
+        volatile long delayRefreshedAt = System.nanoTime();
+
+        ClientState(String client) {
+            latency = Timer.builder("shareit.server.hedging.latency")
+                    .tag("client", client)
+                    .publishPercentiles(properties.getDelayPercentile())
+                    .distributionStatisticExpiry(Duration.ofMinutes(1))
+                    .register(meterRegistry);
+            requests = counter("shareit.server.hedging.requests", client);
+            hedges = counter("shareit.server.hedging.hedges", client);
+            wins = counter("shareit.server.hedging.wins", client);
+            budgetExhausted = counter("shareit.server.hedging.budget-exhausted", client);
+        }
+
+        long delayNanos() {
+            long now = System.nanoTime();
+            if (now - delayRefreshedAt > DELAY_REFRESH_NANOS) {
+                delayRefreshedAt = now;
+                if (latency.count() >= properties.getMinSamples()) {
+                    for (ValueAtPercentile percentile : latency.takeSnapshot().percentileValues()) {
+                        delayNanos = Math.max(properties.getMinDelay().toNanos(),
+                                (long) percentile.value(TimeUnit.NANOSECONDS));
+                    }
+                }
+            }
+            return delayNanos;
+        }
+
+        void deposit() {
+            long earned = Math.round(properties.getBudgetPercent() * TOKENS_PER_HEDGE / 100);
+            tokens.getAndUpdate(current -> Math.min(MAX_TOKENS, current + earned));
+        }
+
+        boolean withdraw() {
+            long current;
+            do {
+                current = tokens.get();
+                if (current < TOKENS_PER_HEDGE) {
+                    return false;
+                }
+            } while (!tokens.compareAndSet(current, current - TOKENS_PER_HEDGE));
+            return true;
+        }
+
+        private Counter counter(String name, String client) {
+            return Counter.builder(name).tag("client", client).register(meterRegistry);
+        }
+    }
+}
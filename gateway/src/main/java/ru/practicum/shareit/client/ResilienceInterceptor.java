@@ -0,0 +1,77 @@
+package ru.practicum.shareit.client;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.io.IOException;
+import java.net.URI;
+
+/**
+ * Guards every call to the server with a bulkhead and a circuit breaker named after the
+ * first path segment below the server URL, so {@code /items/...} and {@code /users/...}
+ * are isolated from each other. 5xx responses and I/O errors count as failures.
+ */
+public class ResilienceInterceptor implements ClientHttpRequestInterceptor {
+    private final String basePath;
+    private final CircuitBreakerRegistry circuitBreakers;
+    private final BulkheadRegistry bulkheads;
+
+    public ResilienceInterceptor(String serverUrl, CircuitBreakerRegistry circuitBreakers, BulkheadRegistry bulkheads) {
+        String path = URI.create(serverUrl).getPath();
+        this.basePath = path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+        this.circuitBreakers = circuitBreakers;
+        this.bulkheads = bulkheads;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        String downstream = downstreamName(request.getURI());
+        CircuitBreaker circuitBreaker = circuitBreakers.circuitBreaker(downstream);
+        Bulkhead bulkhead = bulkheads.bulkhead(downstream);
+
+        circuitBreaker.acquirePermission();
+        try {
+            bulkhead.acquirePermission();
+        } catch (BulkheadFullException e) {
+            circuitBreaker.releasePermission();
+            throw e;
+        }
+
+        long start = circuitBreaker.getCurrentTimestamp();
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            HttpStatusCode status = response.getStatusCode();
+            long duration = circuitBreaker.getCurrentTimestamp() - start;
+            if (status.is5xxServerError()) {
+                circuitBreaker.onError(duration, circuitBreaker.getTimestampUnit(), new HttpServerErrorException(status));
+            } else {
+                circuitBreaker.onSuccess(duration, circuitBreaker.getTimestampUnit());
+            }
+            return new ReleasingResponse(response, bulkhead::onComplete);
+        } catch (IOException | RuntimeException e) {
+            circuitBreaker.onError(circuitBreaker.getCurrentTimestamp() - start, circuitBreaker.getTimestampUnit(), e);
+            bulkhead.onComplete();
+            throw e;
+        }
+    }
+
+    String downstreamName(URI uri) {
+        String path = uri.getPath();
+        if (path.startsWith(basePath)) {
+            path = path.substring(basePath.length());
+        }
+        int start = path.startsWith("/") ? 1 : 0;
+        int end = path.indexOf('/', start);
+        return end < 0 ? path.substring(start) : path.substring(start, end);
+    }
+}
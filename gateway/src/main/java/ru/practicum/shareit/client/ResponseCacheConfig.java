@@ -0,0 +1,16 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ResponseCacheConfig {
+    public static final String ITEMS = "items";
+    public static final String ITEM_SEARCH = "item-search";
+    public static final String ALL_REQUESTS = "all-requests";
+
+    public static final String UNLESS_NOT_2XX = "!#result.statusCode.is2xxSuccessful()";
+}
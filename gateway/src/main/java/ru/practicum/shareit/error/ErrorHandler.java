@@ -1,13 +1,20 @@
 package ru.practicum.shareit.error;
 
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import ru.practicum.shareit.error.exception.ServiceOverloadedException;
+import ru.practicum.shareit.error.exception.TooManyRequestsException;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -18,27 +25,13 @@ public class ErrorHandler {
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidation(final MethodArgumentNotValidException e) {
         log.error("Validation error: " + e.getMessage());
+        return validationErrorResponse(e.getBindingResult());
+    }
 
-        Map<String, String> errors = new HashMap<>();
-        e.getBindingResult().getAllErrors().forEach((error) -> {
-            String fieldName = error instanceof FieldError
-                    ? ((FieldError) error).getField()
-                    : error.getObjectName();
-            String errorMessage = error.getDefaultMessage();
-            errors.put(fieldName, errorMessage);
-        });
-
-        String message = "Validation failed for " + errors.size() + " field(s)";
-
-        ErrorResponse errorResponse = new ErrorResponse(
-                "Bad Request",
-                message,
-                HttpStatus.BAD_REQUEST.value()
-        );
-
-        errorResponse.setDetails(errors);
-
-        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleValidation(final WebExchangeBindException e) {
+        log.error("Validation error: " + e.getMessage());
+        return validationErrorResponse(e.getBindingResult());
     }
 
     @ExceptionHandler(ConstraintViolationException.class)
@@ -78,6 +71,35 @@ public class ErrorHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequests(final TooManyRequestsException e) {
+        log.warn("TooManyRequestsException: " + e.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                "Too Many Requests",
+                e.getMessage(),
+                HttpStatus.TOO_MANY_REQUESTS.value()
+        );
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
+    @ExceptionHandler({CallNotPermittedException.class, BulkheadFullException.class,
+            ServiceOverloadedException.class})
+    public ResponseEntity<ErrorResponse> handleServerUnavailable(final RuntimeException e) {
+        log.warn("Request rejected: " + e.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                "Service Unavailable",
+                e.getMessage(),
+                HttpStatus.SERVICE_UNAVAILABLE.value()
+        );
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     @ExceptionHandler
     public ResponseEntity<ErrorResponse> handleException(final Exception e) {
         log.error("Exception: " + e.getMessage());
@@ -90,5 +112,27 @@ public class ErrorHandler {
 
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
-}
 
+    private ResponseEntity<ErrorResponse> validationErrorResponse(final BindingResult bindingResult) {
+        Map<String, String> errors = new HashMap<>();
+        bindingResult.getAllErrors().forEach((error) -> {
+            String fieldName = error instanceof FieldError
+                    ? ((FieldError) error).getField()
+                    : error.getObjectName();
+            String errorMessage = error.getDefaultMessage();
+            errors.put(fieldName, errorMessage);
+        });
+
+        String message = "Validation failed for " + errors.size() + " field(s)";
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                "Bad Request",
+                message,
+                HttpStatus.BAD_REQUEST.value()
+        );
+
+        errorResponse.setDetails(errors);
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,9 @@
+package ru.practicum.shareit.error.exception;
+
+public class ServiceOverloadedException extends RuntimeException {
+    public ServiceOverloadedException(String route, int inFlight, int limit) {
+        // Thrown for every shed request, so skip the stack trace to keep rejections cheap under overload.
+        super("Gateway overloaded, rejected " + route + " with " + inFlight + " of " + limit + " requests in flight",
+                null, false, false);
+    }
+}
@@ -0,0 +1,13 @@
+package ru.practicum.shareit.error.exception;
+
+import lombok.Getter;
+
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String route, long retryAfterSeconds) {
+        super("Rate limit exceeded for " + route + ", retry after " + retryAfterSeconds + " s");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
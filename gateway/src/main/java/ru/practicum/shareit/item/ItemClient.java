@@ -2,57 +2,103 @@ package ru.practicum.shareit.item;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ResponseCacheConfig;
 import ru.practicum.shareit.item.dto.CommentCreateDto;
 import ru.practicum.shareit.item.dto.ItemCreateDto;
 import ru.practicum.shareit.item.dto.ItemUpdateDto;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class ItemClient extends BaseClient {
     private static final String API_PREFIX = "/items";
 
     @Autowired
-    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemClient(
+            @Value("${shareit-server.url}") String serverUrl,
+            @Value("${shareit-server.pass-through}") boolean passThrough,
+            RestTemplateBuilder builder,
+            ClientHttpRequestFactory shareitServerRequestFactory
+    ) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-                        .build()
+                        .requestFactory(() -> shareitServerRequestFactory)
+                        .build(),
+                passThrough
         );
     }
 
+    @CacheEvict(cacheNames = {ResponseCacheConfig.ITEM_SEARCH, ResponseCacheConfig.ALL_REQUESTS}, allEntries = true)
     public ResponseEntity<Object> addItem(Long userId, ItemCreateDto itemDto) {
         return post("", userId, itemDto);
     }
 
+    @CacheEvict(cacheNames = {ResponseCacheConfig.ITEMS, ResponseCacheConfig.ITEM_SEARCH, ResponseCacheConfig.ALL_REQUESTS},
+            allEntries = true)
     public ResponseEntity<Object> updateItem(Long userId, Long itemId, ItemUpdateDto itemDto) {
-        return post("/" + itemId, userId, itemDto);
+        return patch("/" + itemId, userId, itemDto);
     }
 
+    @CacheEvict(cacheNames = {ResponseCacheConfig.ITEMS, ResponseCacheConfig.ITEM_SEARCH, ResponseCacheConfig.ALL_REQUESTS},
+            allEntries = true)
     public ResponseEntity<Object> deleteItem(Long userId, Long itemId) {
         return delete("/" + itemId, userId);
     }
 
+    @Cacheable(cacheNames = ResponseCacheConfig.ITEMS, key = "#itemId + ':' + #userId",
+            unless = ResponseCacheConfig.UNLESS_NOT_2XX)
     public ResponseEntity<Object> getItemById(Long userId, Long itemId) {
-        return get("/" + itemId, userId);
+        return hedgedGet("/" + itemId, userId);
     }
 
+    @Cacheable(cacheNames = ResponseCacheConfig.ITEM_SEARCH, key = "#text", unless = ResponseCacheConfig.UNLESS_NOT_2XX)
     public ResponseEntity<Object> searchItems(String text) {
         Map<String, Object> parameters = Map.of("text", text);
         return get("/search?text={text}", null, parameters);
     }
 
+    // Not cached: approving a booking changes which items are free in a window.
+    public ResponseEntity<Object> searchItems(String text, @Nullable LocalDateTime start, @Nullable LocalDateTime end) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("text", text);
+        if (start != null) {
+            parameters.put("start", start);
+        }
+        if (end != null) {
+            parameters.put("end", end);
+        }
+        String query = parameters.keySet().stream()
+                .map(name -> name + "={" + name + "}")
+                .collect(Collectors.joining("&", "/search?", ""));
+        return get(query, null, parameters);
+    }
+
     public ResponseEntity<Object> getItemsForOwner(Long userId) {
         return get("", userId);
     }
 
+    public ResponseEntity<Object> getAvailability(Long itemId, LocalDateTime from, LocalDateTime to, Duration granularity) {
+        Map<String, Object> parameters = Map.of("from", from, "to", to, "granularity", granularity);
+        return get("/" + itemId + "/availability?from={from}&to={to}&granularity={granularity}", null, parameters);
+    }
+
+    @CacheEvict(cacheNames = ResponseCacheConfig.ITEMS, allEntries = true)
     public ResponseEntity<Object> addComment(Long userId, Long itemId, CommentCreateDto commentDto) {
         return post("/" + itemId + "/comment", userId, commentDto);
     }
@@ -4,6 +4,8 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -11,6 +13,8 @@ import ru.practicum.shareit.item.dto.CommentCreateDto;
 import ru.practicum.shareit.item.dto.ItemCreateDto;
 import ru.practicum.shareit.item.dto.ItemUpdateDto;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Collections;
 
 
@@ -19,6 +23,7 @@ import java.util.Collections;
 @RequestMapping("/items")
 @RequiredArgsConstructor
 @Validated
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class ItemController {
     private final ru.practicum.shareit.item.ItemClient itemClient;
 
@@ -61,11 +66,17 @@ public class ItemController {
 
     @GetMapping("/search")
     public ResponseEntity<Object> searchItems(
-            @RequestParam String text
+            @RequestParam String text,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end
     ) {
         if (text.trim().isEmpty()) {
             return ResponseEntity.ok(Collections.emptyList());
         }
+        if (start != null || end != null) {
+            log.info("Gateway: GET /items/search - search items with text: {} free from {} to {}", text, start, end);
+            return itemClient.searchItems(text, start, end);
+        }
         log.info("Gateway: GET /items/search - search items with text: {}", text);
         return itemClient.searchItems(text);
     }
@@ -78,6 +89,17 @@ public class ItemController {
         return itemClient.getItemsForOwner(userId);
     }
 
+    @GetMapping("/{itemId}/availability")
+    public ResponseEntity<Object> getAvailability(
+            @PathVariable @Positive(message = "Item id must be a positive number") Long itemId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "PT1H") Duration granularity
+    ) {
+        log.info("Gateway: GET /items/{}/availability - from {} to {} by {}", itemId, from, to, granularity);
+        return itemClient.getAvailability(itemId, from, to, granularity);
+    }
+
     @PostMapping("/{itemId}/comment")
     public ResponseEntity<Object> addComment(
             @RequestHeader("X-Sharer-User-Id") @Positive(message = "User id must be a positive number") Long userId,
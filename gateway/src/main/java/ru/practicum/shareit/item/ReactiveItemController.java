@@ -0,0 +1,119 @@
+package ru.practicum.shareit.item;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.item.dto.CommentCreateDto;
+import ru.practicum.shareit.item.dto.ItemCreateDto;
+import ru.practicum.shareit.item.dto.ItemUpdateDto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+
+@Slf4j
+@RestController
+@RequestMapping("/items")
+@RequiredArgsConstructor
+@Validated
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveItemController {
+    private final ReactiveItemClient itemClient;
+
+    @PostMapping
+    public Mono<ResponseEntity<Flux<DataBuffer>>> addItem(
+            @RequestHeader("X-Sharer-User-Id") @Positive(message = "User id must be a positive number") Long userId,
+            @RequestBody @Valid ItemCreateDto itemDto
+    ) {
+        log.info("Gateway (reactive): POST /items - add item by user {}", userId);
+        return itemClient.addItem(userId, itemDto);
+    }
+
+    @PatchMapping("/{itemId}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> updateItem(
+            @RequestHeader("X-Sharer-User-Id") @Positive(message = "User id must be a positive number") Long userId,
+            @PathVariable @Positive(message = "Item id must be a positive number") Long itemId,
+            @RequestBody @Valid ItemUpdateDto itemDto
+    ) {
+        log.info("Gateway (reactive): PATCH /items/{} - update item by user {}", itemId, userId);
+        return itemClient.updateItem(userId, itemId, itemDto);
+    }
+
+    @DeleteMapping("/{itemId}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> deleteItem(
+            @RequestHeader("X-Sharer-User-Id") @Positive(message = "User id must be a positive number") Long userId,
+            @PathVariable @Positive(message = "Item id must be a positive number") Long itemId
+    ) {
+        log.info("Gateway (reactive): DELETE /items/{} - delete item by user {}", itemId, userId);
+        return itemClient.deleteItem(userId, itemId);
+    }
+
+    @GetMapping("/{itemId}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getItemById(
+            @RequestHeader("X-Sharer-User-Id") @Positive(message = "User id must be a positive number") Long userId,
+            @PathVariable @Positive(message = "Item id must be a positive number") Long itemId
+    ) {
+        log.info("Gateway (reactive): GET /items/{} - get item by user {}", itemId, userId);
+        return itemClient.getItemById(userId, itemId);
+    }
+
+    @GetMapping("/search")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> searchItems(
+            @RequestParam String text,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end
+    ) {
+        if (text.trim().isEmpty()) {
+            return Mono.just(ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap("[]".getBytes(StandardCharsets.UTF_8)))));
+        }
+        if (start != null || end != null) {
+            log.info("Gateway (reactive): GET /items/search - search items with text: {} free from {} to {}", text, start, end);
+            return itemClient.searchItems(text, start, end);
+        }
+        log.info("Gateway (reactive): GET /items/search - search items with text: {}", text);
+        return itemClient.searchItems(text);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getItemsForOwner(
+            @RequestHeader("X-Sharer-User-Id") @Positive(message = "User id must be a positive number") Long userId
+    ) {
+        log.info("Gateway (reactive): GET /items - get items for owner {}", userId);
+        return itemClient.getItemsForOwner(userId);
+    }
+
+    @GetMapping("/{itemId}/availability")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAvailability(
+            @PathVariable @Positive(message = "Item id must be a positive number") Long itemId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "PT1H") Duration granularity
+    ) {
+        log.info("Gateway (reactive): GET /items/{}/availability - from {} to {} by {}", itemId, from, to, granularity);
+        return itemClient.getAvailability(itemId, from, to, granularity);
+    }
+
+    @PostMapping("/{itemId}/comment")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> addComment(
+            @RequestHeader("X-Sharer-User-Id") @Positive(message = "User id must be a positive number") Long userId,
+            @PathVariable @Positive(message = "Item id must be a positive number") Long itemId,
+            @RequestBody @Valid CommentCreateDto commentDto
+    ) {
+        log.info("Gateway (reactive): POST /items/{}/comment - add comment by user {}", itemId, userId);
+        return itemClient.addComment(userId, itemId, commentDto);
+    }
+}
\ No newline at end of file
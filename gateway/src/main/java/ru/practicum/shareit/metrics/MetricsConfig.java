@@ -0,0 +1,17 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class MetricsConfig {
+
+    @Bean
+    public FilterRegistrationBean<PayloadSizeMetricsFilter> payloadSizeMetricsFilter(MeterRegistry meterRegistry) {
+        return new FilterRegistrationBean<>(new PayloadSizeMetricsFilter(meterRegistry));
+    }
+}
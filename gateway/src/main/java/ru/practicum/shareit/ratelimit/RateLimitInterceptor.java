@@ -0,0 +1,55 @@
+package ru.practicum.shareit.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import ru.practicum.shareit.error.exception.TooManyRequestsException;
+
+import java.util.concurrent.TimeUnit;
+
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+    private static final String USER_ID_HEADER = "X-Sharer-User-Id";
+
+    private final RateLimiter rateLimiter;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod)) {
+            return true;
+        }
+
+        String pattern = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = RateLimiter.route(request.getMethod(), pattern);
+        String client = client(request);
+
+        long waitNanos = rateLimiter.tryAcquire(route, client);
+        if (waitNanos > 0) {
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+            throw new TooManyRequestsException(route, retryAfterSeconds);
+        }
+        return true;
+    }
+
+    /**
+     * Keys the bucket by user id only when the header holds one; any other value would let a client mint
+     * new buckets at will, so it falls back to the remote address.
+     */
+    private static String client(HttpServletRequest request) {
+        String userId = request.getHeader(USER_ID_HEADER);
+        if (userId != null) {
+            try {
+                long id = Long.parseLong(userId.trim());
+                if (id > 0) {
+                    return Long.toString(id);
+                }
+            } catch (NumberFormatException e) {
+                // Not a user id: limit by address below.
+            }
+        }
+        return request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,35 @@
+package ru.practicum.shareit.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit-gateway.rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    private Limit defaultLimit = new Limit();
+    private List<RouteLimit> routes = new ArrayList<>();
+    private Duration idleEvictionInterval = Duration.ofMinutes(1);
+    private long maxBuckets = 100_000;
+    private Duration idleExpiry = Duration.ofMinutes(10);
+
+    @Getter
+    @Setter
+    public static class Limit {
+        private int capacity = 100;
+        private double refillPerSecond = 50;
+    }
+
+    @Getter
+    @Setter
+    public static class RouteLimit extends Limit {
+        private String method;
+        private String path;
+    }
+}
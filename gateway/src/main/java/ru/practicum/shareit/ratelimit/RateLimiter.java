@@ -0,0 +1,75 @@
+package ru.practicum.shareit.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+@Slf4j
+public class RateLimiter {
+    private final RateLimitProperties.Limit defaultLimit;
+    private final Map<String, RateLimitProperties.Limit> routeLimits = new HashMap<>();
+    private final Cache<BucketKey, TokenBucket> buckets;
+    private final LongSupplier nanoClock;
+
+    public RateLimiter(RateLimitProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    RateLimiter(RateLimitProperties properties, LongSupplier nanoClock) {
+        this.defaultLimit = properties.getDefaultLimit();
+        properties.getRoutes().forEach(route -> routeLimits.put(route(route.getMethod(), route.getPath()), route));
+        this.nanoClock = nanoClock;
+        // Hard bound on memory however many distinct clients show up between sweeps.
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBuckets())
+                .expireAfterAccess(properties.getIdleExpiry())
+                .ticker(nanoClock::getAsLong)
+                .build();
+    }
+
+    public static String route(String method, String path) {
+        return method.toUpperCase() + " " + path;
+    }
+
+    /**
+     * Takes a token from the bucket of {@code client} on {@code route}.
+     *
+     * @return {@code 0} if the request is allowed, otherwise nanoseconds until it would be
+     */
+    public long tryAcquire(String route, String client) {
+        long now = nanoClock.getAsLong();
+        BucketKey key = new BucketKey(route, client);
+        TokenBucket bucket = buckets.getIfPresent(key);
+        if (bucket == null) {
+            RateLimitProperties.Limit limit = routeLimits.getOrDefault(route, defaultLimit);
+            bucket = buckets.get(key, k -> new TokenBucket(limit.getCapacity(), limit.getRefillPerSecond(), now));
+        }
+        return bucket.tryAcquire(now);
+    }
+
+    /**
+     * Drops buckets that have refilled completely. A new full bucket is created on the next
+     * request, so this frees memory without changing what any client is allowed to do.
+     */
+    @Scheduled(fixedDelayString = "${shareit-gateway.rate-limit.idle-eviction-interval:PT1M}")
+    public void evictIdleBuckets() {
+        long now = nanoClock.getAsLong();
+        long before = bucketCount();
+        buckets.asMap().values().removeIf(bucket -> bucket.isFull(now));
+        long after = bucketCount();
+        log.debug("Rate limiter: evicted {} idle buckets, {} remain", before - after, after);
+    }
+
+    public long bucketCount() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+
+    private record BucketKey(String route, String client) {
+    }
+}
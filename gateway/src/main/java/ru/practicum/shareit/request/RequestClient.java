@@ -2,30 +2,42 @@ package ru.practicum.shareit.request;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ResponseCacheConfig;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 
 import java.util.Map;
 
 @Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class RequestClient extends BaseClient {
     private static final String API_PREFIX = "/requests";
 
     @Autowired
-    public RequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public RequestClient(
+            @Value("${shareit-server.url}") String serverUrl,
+            @Value("${shareit-server.pass-through}") boolean passThrough,
+            RestTemplateBuilder builder,
+            ClientHttpRequestFactory shareitServerRequestFactory
+    ) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-                        .build()
+                        .requestFactory(() -> shareitServerRequestFactory)
+                        .build(),
+                passThrough
         );
     }
 
+    @CacheEvict(cacheNames = ResponseCacheConfig.ALL_REQUESTS, allEntries = true)
     public ResponseEntity<Object> createRequest(Long userId, ItemRequestDto requestDto) {
         return post("", userId, requestDto);
     }
@@ -34,6 +46,8 @@ public class RequestClient extends BaseClient {
         return get("", userId);
     }
 
+    @Cacheable(cacheNames = ResponseCacheConfig.ALL_REQUESTS, key = "#userId + ':' + #from + ':' + #size",
+            unless = ResponseCacheConfig.UNLESS_NOT_2XX)
     public ResponseEntity<Object> getAllRequests(Long userId, Integer from, Integer size) {
         Map<String, Object> parameters = Map.of(
                 "from", from,
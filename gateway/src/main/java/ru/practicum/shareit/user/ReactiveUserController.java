@@ -0,0 +1,64 @@
+package ru.practicum.shareit.user;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.user.dto.UserCreateDto;
+import ru.practicum.shareit.user.dto.UserUpdateDto;
+
+@Slf4j
+@RestController
+@RequestMapping("/users")
+@RequiredArgsConstructor
+@Validated
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveUserController {
+    private final ReactiveUserClient userClient;
+
+    @PostMapping
+    public Mono<ResponseEntity<Flux<DataBuffer>>> create(
+            @RequestBody @Valid UserCreateDto userDto
+    ) {
+        log.info("Gateway (reactive): POST /users - create user {}", userDto);
+        return userClient.createUser(userDto);
+    }
+
+    @PatchMapping("/{userId}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> update(
+            @PathVariable(name = "userId") @Positive(message = "User id must be a positive number") Long userId,
+            @RequestBody @Valid UserUpdateDto userDto
+    ) {
+        log.info("Gateway (reactive): PUT /users - create user {}", userDto);
+        return userClient.updateUser(userId, userDto);
+    }
+
+    @DeleteMapping("/{userId}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> delete(
+            @PathVariable(name = "userId") @Positive(message = "User id must be a positive number") Long userId
+    ) {
+        log.info("Gateway (reactive): DELETE /users - delete user {}", userId);
+        return userClient.deleteUser(userId);
+    }
+
+    @GetMapping("/{userId}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getById(
+            @PathVariable(name = "userId") @Positive(message = "User id must be a positive number") Long userId
+    ) {
+        log.info("Gateway (reactive): GET /users - get user {}", userId);
+        return userClient.getUserById(userId);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAll() {
+        log.info("Gateway (reactive): GET /users - get users");
+        return userClient.getAllUsers();
+    }
+}
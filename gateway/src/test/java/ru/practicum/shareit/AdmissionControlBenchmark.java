@@ -0,0 +1,198 @@
+package ru.practicum.shareit;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures goodput (responses within {@value #SLO_MILLIS} ms) of {@code POST /bookings} and
+ * {@code GET /items/search} while search load grows past what a stub server can take: it processes
+ * {@value #SERVER_CAPACITY} requests at a time in {@value #SERVER_WORK_MILLIS} ms each and queues the rest.
+ * Run with {@code mvn -pl gateway test -Pbenchmark -Dtest=AdmissionControlBenchmark}.
+ */
+@Tag("benchmark")
+class AdmissionControlBenchmark {
+    private static final int SERVER_CAPACITY = 2;
+    private static final int SERVER_WORK_MILLIS = 40;
+    private static final int SLO_MILLIS = 500;
+    private static final int BOOKING_CLIENTS = 4;
+    private static final int REJECTED_BACKOFF_MILLIS = 250;
+    private static final long WARMUP_NANOS = TimeUnit.SECONDS.toNanos(5);
+    private static final long DURATION_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final byte[] EMPTY_JSON = "[]".getBytes(StandardCharsets.UTF_8);
+
+    @ParameterizedTest(name = "admission: {0}, search clients: {1}")
+    @CsvSource({"false, 20", "true, 20", "false, 200", "true, 200"})
+    void mixedLoad(boolean admission, int searchClients) throws Exception {
+        WebServer server = startStubServer();
+        try (ConfigurableApplicationContext gateway = startGateway(server.getPort(), admission)) {
+            int port = ((WebServerApplicationContext) gateway).getWebServer().getPort();
+            String baseUrl = "http://localhost:" + port;
+
+            runLoad(baseUrl, searchClients, WARMUP_NANOS);
+            Route[] routes = runLoad(baseUrl, searchClients, DURATION_NANOS);
+            Route bookings = routes[0];
+            Route search = routes[1];
+
+            double seconds = DURATION_NANOS / 1e9;
+            System.out.printf("admission=%s searchClients=%d | bookings: goodput=%.0f/s rejected=%d slow=%d "
+                            + "| search: goodput=%.0f/s rejected=%d slow=%d%n",
+                    admission, searchClients,
+                    bookings.good.get() / seconds, bookings.rejected.get(), bookings.slow.get(),
+                    search.good.get() / seconds, search.rejected.get(), search.slow.get());
+        } finally {
+            server.stop();
+        }
+    }
+
+    private static Route[] runLoad(String baseUrl, int searchClients, long durationNanos) throws Exception {
+        Route bookings = new Route();
+        Route search = new Route();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient httpClient = HttpClient.newBuilder().executor(executor).build()) {
+            long deadline = System.nanoTime() + durationNanos;
+            List<Future<?>> clients = new ArrayList<>();
+            for (int i = 0; i < BOOKING_CLIENTS; i++) {
+                clients.add(executor.submit(() -> drive(httpClient, bookings, deadline, attempt ->
+                        HttpRequest.newBuilder(URI.create(baseUrl + "/bookings"))
+                                .header("Content-Type", "application/json")
+                                .header("X-Sharer-User-Id", "1")
+                                .POST(HttpRequest.BodyPublishers.ofString(bookingJson()))
+                                .build())));
+            }
+            for (int i = 0; i < searchClients; i++) {
+                int client = i;
+                clients.add(executor.submit(() -> drive(httpClient, search, deadline, attempt ->
+                        HttpRequest.newBuilder(URI.create(baseUrl + "/items/search?text=c" + client + "r" + attempt))
+                                .GET()
+                                .build())));
+            }
+            for (Future<?> client : clients) {
+                client.get();
+            }
+        }
+        return new Route[]{bookings, search};
+    }
+
+    private static void drive(HttpClient httpClient, Route route, long deadline, RequestFactory requests) {
+        for (long attempt = 0; System.nanoTime() < deadline; attempt++) {
+            long started = System.nanoTime();
+            int status;
+            try {
+                status = httpClient.send(requests.create(attempt), HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (IOException e) {
+                status = 0;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long elapsed = System.nanoTime() - started;
+            if (status == 503) {
+                route.rejected.incrementAndGet();
+                sleepQuietly(REJECTED_BACKOFF_MILLIS);
+            } else if (status < 200 || status >= 300 || elapsed > TimeUnit.MILLISECONDS.toNanos(SLO_MILLIS)) {
+                route.slow.incrementAndGet();
+            } else {
+                route.good.incrementAndGet();
+            }
+        }
+    }
+
+    private static String bookingJson() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1).withNano(0);
+        return "{\"itemId\":1,\"start\":\"" + start + "\",\"end\":\"" + start.plusDays(1) + "\"}";
+    }
+
+    private static WebServer startStubServer() {
+        Semaphore capacity = new Semaphore(SERVER_CAPACITY, true);
+        TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory(0);
+        factory.addProtocolHandlerCustomizers(protocolHandler ->
+                protocolHandler.setExecutor(new VirtualThreadExecutor("stub-server-")));
+        WebServer server = factory.getWebServer(servletContext -> servletContext
+                .addServlet("stub", new HttpServlet() {
+                    @Override
+                    protected void service(HttpServletRequest request, HttpServletResponse response)
+                            throws IOException {
+                        capacity.acquireUninterruptibly();
+                        try {
+                            sleepQuietly(SERVER_WORK_MILLIS);
+                        } finally {
+                            capacity.release();
+                        }
+                        response.setStatus("POST".equals(request.getMethod()) ? 201 : 200);
+                        response.setContentType("application/json");
+                        response.setContentLength(EMPTY_JSON.length);
+                        response.getOutputStream().write(EMPTY_JSON);
+                    }
+                })
+                .addMapping("/*"));
+        server.start();
+        return server;
+    }
+
+    private static ConfigurableApplicationContext startGateway(int serverPort, boolean admission) {
+        return new SpringApplicationBuilder(ShareItGateway.class).run(
+                "--server.port=0",
+                "--shareit-server.url=http://localhost:" + serverPort,
+                "--spring.threads.virtual.enabled=true",
+                "--shareit-server.http-client.max-total=1000",
+                "--shareit-server.http-client.max-per-route=1000",
+                "--shareit-gateway.rate-limit.enabled=false",
+                "--shareit-gateway.admission.enabled=" + admission,
+                "--shareit-gateway.admission.initial-limit=" + SERVER_CAPACITY * 2,
+                "--shareit-gateway.admission.min-limit=" + SERVER_CAPACITY,
+                "--shareit-gateway.admission.latency-threshold=" + SLO_MILLIS / 2 + "ms",
+                "--resilience4j.bulkhead.configs.default.max-concurrent-calls=1000",
+                "--resilience4j.circuitbreaker.configs.default.slow-call-duration-threshold=60s",
+                "--resilience4j.circuitbreaker.configs.default.failure-rate-threshold=100",
+                "--spring.cache.type=none",
+                "--logging.level.root=WARN",
+                "--logging.level.ru.practicum.shareit.error=ERROR",
+                "--logging.level.org.springframework.web.client.RestTemplate=WARN"
+        );
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private interface RequestFactory {
+        HttpRequest create(long attempt);
+    }
+
+    private static class Route {
+        final AtomicLong good = new AtomicLong();
+        final AtomicInteger rejected = new AtomicInteger();
+        final AtomicInteger slow = new AtomicInteger();
+    }
+}
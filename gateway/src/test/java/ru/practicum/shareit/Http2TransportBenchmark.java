@@ -0,0 +1,170 @@
+package ru.practicum.shareit;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.coyote.http11.AbstractHttp11Protocol;
+import org.apache.coyote.http2.Http2Protocol;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares p99 latency and the number of gateway-to-server connections for HTTP/1.1 and h2c with
+ * {@value #CONCURRENT_CLIENTS} concurrent clients against a stub server that answers in {@value #SERVER_LATENCY_MILLIS} ms.
+ * Run with {@code mvn -pl gateway test -Pbenchmark -Dtest=Http2TransportBenchmark}.
+ */
+@Tag("benchmark")
+class Http2TransportBenchmark {
+    private static final int CONCURRENT_CLIENTS = 50;
+    private static final int REQUESTS_PER_CLIENT = 20;
+    private static final int SERVER_LATENCY_MILLIS = 20;
+    private static final byte[] USER_JSON = "{\"id\":1,\"name\":\"User\",\"email\":\"user@example.com\"}"
+            .getBytes(StandardCharsets.UTF_8);
+    private static final Set<String> CONNECTIONS = ConcurrentHashMap.newKeySet();
+    private static final Set<String> PROTOCOLS = ConcurrentHashMap.newKeySet();
+
+    @ParameterizedTest(name = "protocol: {0}")
+    @ValueSource(strings = {"http_1_1", "h2c"})
+    void getUserById(String protocol) throws Exception {
+        WebServer server = startStubServer();
+        try (ConfigurableApplicationContext gateway = startGateway(server.getPort(), protocol)) {
+            int port = ((WebServerApplicationContext) gateway).getWebServer().getPort();
+
+            runLoad(port, CONCURRENT_CLIENTS, 1);
+            CONNECTIONS.clear();
+            PROTOCOLS.clear();
+            long started = System.nanoTime();
+            LoadResult result = runLoad(port, CONCURRENT_CLIENTS, REQUESTS_PER_CLIENT);
+            double seconds = (System.nanoTime() - started) / 1e9;
+
+            System.out.printf("protocol=%s serverProtocols=%s connections=%d clients=%d requests=%d errors=%d "
+                            + "throughput=%.0f req/s p50=%.1f ms p99=%.1f ms max=%.1f ms%n",
+                    protocol, PROTOCOLS, CONNECTIONS.size(), CONCURRENT_CLIENTS, result.latencies().length,
+                    result.errors(), result.latencies().length / seconds,
+                    result.percentile(0.50), result.percentile(0.99), result.percentile(1.0));
+            assertThat(result.errors()).isZero();
+        } finally {
+            server.stop();
+        }
+    }
+
+    private static WebServer startStubServer() {
+        TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory(0);
+        factory.addConnectorCustomizers(connector -> connector.addUpgradeProtocol(new Http2Protocol()));
+        factory.addProtocolHandlerCustomizers(protocolHandler -> {
+            protocolHandler.setExecutor(new VirtualThreadExecutor("stub-server-"));
+            if (protocolHandler instanceof AbstractHttp11Protocol<?> http11Protocol) {
+                http11Protocol.setMaxKeepAliveRequests(-1);
+            }
+        });
+        WebServer server = factory.getWebServer(servletContext -> servletContext
+                .addServlet("users", new HttpServlet() {
+                    @Override
+                    protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                        CONNECTIONS.add(request.getRemoteAddr() + ":" + request.getRemotePort());
+                        PROTOCOLS.add(request.getProtocol());
+                        try {
+                            Thread.sleep(SERVER_LATENCY_MILLIS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        response.setContentType("application/json");
+                        response.setContentLength(USER_JSON.length);
+                        response.getOutputStream().write(USER_JSON);
+                    }
+                })
+                .addMapping("/users/*"));
+        server.start();
+        return server;
+    }
+
+    private static ConfigurableApplicationContext startGateway(int serverPort, String protocol) {
+        return new SpringApplicationBuilder(ShareItGateway.class).run(
+                "--server.port=0",
+                "--shareit-server.url=http://localhost:" + serverPort,
+                "--shareit-server.http-client.protocol=" + protocol,
+                "--shareit-server.http-client.max-total=" + CONCURRENT_CLIENTS,
+                "--shareit-server.http-client.max-per-route=" + CONCURRENT_CLIENTS,
+                "--spring.threads.virtual.enabled=true",
+                "--shareit-gateway.rate-limit.enabled=false",
+                "--shareit-gateway.admission.enabled=false",
+                "--resilience4j.bulkhead.configs.default.max-concurrent-calls=" + CONCURRENT_CLIENTS,
+                "--resilience4j.circuitbreaker.configs.default.slow-call-duration-threshold=60s",
+                "--logging.level.root=WARN",
+                "--logging.level.org.springframework.web.client.RestTemplate=WARN"
+        );
+    }
+
+    private static LoadResult runLoad(int port, int clients, int requestsPerClient) throws Exception {
+        AtomicInteger errors = new AtomicInteger();
+        List<Future<long[]>> futures = new ArrayList<>(clients);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient httpClient = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .executor(executor)
+                     .build()) {
+            for (int i = 0; i < clients; i++) {
+                int client = i;
+                futures.add(executor.submit(() -> {
+                    long[] latencies = new long[requestsPerClient];
+                    for (int r = 0; r < requestsPerClient; r++) {
+                        URI uri = URI.create("http://localhost:" + port + "/users/" + (client * requestsPerClient + r + 1));
+                        long started = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = httpClient.send(HttpRequest.newBuilder(uri).GET().build(),
+                                    HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (IOException e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies[r] = System.nanoTime() - started;
+                    }
+                    return latencies;
+                }));
+            }
+            long[] all = new long[clients * requestsPerClient];
+            int offset = 0;
+            for (Future<long[]> future : futures) {
+                long[] latencies = future.get();
+                System.arraycopy(latencies, 0, all, offset, latencies.length);
+                offset += latencies.length;
+            }
+            Arrays.sort(all);
+            return new LoadResult(all, errors.get());
+        }
+    }
+
+    private record LoadResult(long[] latencies, int errors) {
+        double percentile(double percentile) {
+            int index = (int) Math.ceil(percentile * latencies.length) - 1;
+            return latencies[Math.max(index, 0)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import ru.practicum.shareit.admission.AdaptiveConcurrencyLimiter;
+import ru.practicum.shareit.item.ItemController;
+import ru.practicum.shareit.item.ReactiveItemController;
+import ru.practicum.shareit.ratelimit.RateLimiter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.main.web-application-type=reactive")
+@ActiveProfiles("test")
+class ShareitReactiveGatewayTest {
+    @Autowired
+    private ApplicationContext context;
+
+    @Test
+    void contextLoads() {
+        assertThat(context.getBeanNamesForType(ReactiveItemController.class)).hasSize(1);
+        assertThat(context.getBeanNamesForType(ItemController.class)).isEmpty();
+    }
+
+    @Test
+    void reducedFeatureMode_ServletOnlyFeaturesAbsent() {
+        assertThat(context.getBeanNamesForType(RateLimiter.class)).isEmpty();
+        assertThat(context.getBeanNamesForType(AdaptiveConcurrencyLimiter.class)).isEmpty();
+    }
+}
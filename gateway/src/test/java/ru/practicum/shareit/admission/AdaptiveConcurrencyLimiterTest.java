@@ -0,0 +1,141 @@
+package ru.practicum.shareit.admission;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AdaptiveConcurrencyLimiter unit tests")
+class AdaptiveConcurrencyLimiterTest {
+    private final AtomicLong clock = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        AdmissionProperties properties = new AdmissionProperties();
+        properties.setInitialLimit(10);
+        properties.setMinLimit(2);
+        properties.setMaxLimit(20);
+        properties.setLatencyThreshold(Duration.ofMillis(100));
+        properties.setBackoffRatio(0.5);
+        properties.setNormalShare(0.8);
+        properties.setLowShare(0.5);
+        limiter = new AdaptiveConcurrencyLimiter(properties, meterRegistry, clock::get);
+    }
+
+    @Test
+    void tryAcquire_LowPriority_LimitedToItsShare() {
+        acquire(Priority.LOW, 5);
+
+        assertThat(limiter.tryAcquire(Priority.LOW)).isEmpty();
+        assertThat(limiter.tryAcquire(Priority.NORMAL)).isPresent();
+        assertThat(meterRegistry.get("shareit.gateway.admission.rejected").tag("priority", "low")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void tryAcquire_HighPriority_UsesWholeLimit() {
+        acquire(Priority.NORMAL, 8);
+
+        assertThat(limiter.tryAcquire(Priority.NORMAL)).isEmpty();
+        acquire(Priority.HIGH, 2);
+        assertThat(limiter.tryAcquire(Priority.HIGH)).isEmpty();
+        assertThat(limiter.inFlight()).isEqualTo(10);
+    }
+
+    @Test
+    void fastCompletionsUnderLoad_IncreaseLimit() {
+        List<AdaptiveConcurrencyLimiter.Permit> permits = acquire(Priority.HIGH, 6);
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(10));
+        permits.forEach(permit -> limiter.release(permit, false));
+
+        assertThat(limiter.limit()).isEqualTo(12);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    @Test
+    void fastCompletionsWhileIdle_KeepLimit() {
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire(Priority.HIGH).orElseThrow();
+        limiter.release(permit, false);
+
+        assertThat(limiter.limit()).isEqualTo(10);
+    }
+
+    @Test
+    void slowCompletions_DecreaseLimitOncePerRoundTrip() {
+        List<AdaptiveConcurrencyLimiter.Permit> permits = acquire(Priority.HIGH, 4);
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(200));
+        permits.forEach(permit -> limiter.release(permit, false));
+        assertThat(limiter.limit()).isEqualTo(5);
+
+        AdaptiveConcurrencyLimiter.Permit later = limiter.tryAcquire(Priority.HIGH).orElseThrow();
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(200));
+        limiter.release(later, false);
+        assertThat(limiter.limit()).isEqualTo(2);
+
+        assertThat(meterRegistry.get("shareit.gateway.admission.limit").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void slowGatewayFastServer_KeepsLimit() {
+        List<AdaptiveConcurrencyLimiter.Permit> permits = acquire(Priority.HIGH, 6);
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        permits.forEach(permit -> {
+            permit.recordUpstreamLatency(TimeUnit.MILLISECONDS.toNanos(20));
+            limiter.release(permit, false);
+        });
+
+        assertThat(limiter.limit()).isEqualTo(12);
+    }
+
+    @Test
+    void slowServerCall_DecreasesLimit() {
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire(Priority.HIGH).orElseThrow();
+        permit.recordUpstreamLatency(TimeUnit.MILLISECONDS.toNanos(10));
+        permit.recordUpstreamLatency(TimeUnit.MILLISECONDS.toNanos(150));
+        limiter.release(permit, false);
+
+        assertThat(limiter.limit()).isEqualTo(5);
+    }
+
+    @Test
+    void waitBeforeAdmission_TimedAndGauged() {
+        long waitingSince = limiter.startWaiting();
+        long neverAdmitted = limiter.startWaiting();
+        assertThat(meterRegistry.get("shareit.gateway.admission.queued").gauge().value()).isEqualTo(2);
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(30));
+        limiter.stopWaiting(waitingSince, true);
+        limiter.stopWaiting(neverAdmitted, false);
+
+        assertThat(meterRegistry.get("shareit.gateway.admission.queued").gauge().value()).isZero();
+        Timer queueTime = meterRegistry.get("shareit.gateway.admission.queue-time").timer();
+        assertThat(queueTime.count()).isEqualTo(1);
+        assertThat(queueTime.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(30);
+    }
+
+    @Test
+    void failedCompletion_DecreasesLimit() {
+        limiter.release(limiter.tryAcquire(Priority.HIGH).orElseThrow(), true);
+
+        assertThat(limiter.limit()).isEqualTo(5);
+    }
+
+    private List<AdaptiveConcurrencyLimiter.Permit> acquire(Priority priority, int count) {
+        List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            permits.add(limiter.tryAcquire(priority).orElseThrow());
+        }
+        return permits;
+    }
+}
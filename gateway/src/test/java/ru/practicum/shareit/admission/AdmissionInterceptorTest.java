@@ -0,0 +1,102 @@
+package ru.practicum.shareit.admission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import ru.practicum.shareit.booking.BookingClient;
+import ru.practicum.shareit.booking.BookingController;
+import ru.practicum.shareit.booking.dto.BookingRequestDto;
+import ru.practicum.shareit.item.ItemClient;
+import ru.practicum.shareit.item.ItemController;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = {ItemController.class, BookingController.class}, properties = {
+        "shareit-gateway.rate-limit.enabled=false",
+        "shareit-gateway.admission.initial-limit=2",
+        "shareit-gateway.admission.min-limit=2",
+        "shareit-gateway.admission.max-limit=2",
+        "shareit-gateway.admission.low-share=0.5",
+        "shareit-gateway.admission.routes[0].method=GET",
+        "shareit-gateway.admission.routes[0].path=/items/search",
+        "shareit-gateway.admission.routes[0].priority=low"
+})
+@DisplayName("AdmissionInterceptor tests (gateway module)")
+class AdmissionInterceptorTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @MockBean
+    private ItemClient itemClient;
+
+    @MockBean
+    private BookingClient bookingClient;
+
+    @Test
+    void saturatedByLowPriority_RejectsSearchButAdmitsBooking() throws Exception {
+        CountDownLatch searchStarted = new CountDownLatch(1);
+        CountDownLatch releaseSearch = new CountDownLatch(1);
+        when(itemClient.searchItems(anyString())).thenAnswer(invocation -> {
+            searchStarted.countDown();
+            releaseSearch.await(5, TimeUnit.SECONDS);
+            return ResponseEntity.ok("[]");
+        });
+        when(bookingClient.addBooking(anyLong(), any(BookingRequestDto.class)))
+                .thenReturn(new ResponseEntity<>("{}", HttpStatus.CREATED));
+        BookingRequestDto booking = BookingRequestDto.builder()
+                .itemId(1L)
+                .start(LocalDateTime.now().plusDays(1))
+                .end(LocalDateTime.now().plusDays(2))
+                .build();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<MvcResult> held = executor.submit(() ->
+                    mockMvc.perform(get("/items/search").param("text", "drill")).andReturn());
+            assertThat(searchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            mockMvc.perform(get("/items/search").param("text", "saw"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(jsonPath("$.error").value("Service Unavailable"));
+
+            mockMvc.perform(post("/bookings")
+                            .header("X-Sharer-User-Id", 1L)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(booking)))
+                    .andExpect(status().isCreated());
+
+            releaseSearch.countDown();
+            assertThat(held.get().getResponse().getStatus()).isEqualTo(200);
+        }
+        assertThat(limiter.inFlight()).isZero();
+    }
+}
@@ -0,0 +1,195 @@
+package ru.practicum.shareit.batch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.mockito.stubbing.Answer;
+import ru.practicum.shareit.admission.AdaptiveConcurrencyLimiter;
+import ru.practicum.shareit.batch.dto.BatchRequestDto;
+import ru.practicum.shareit.batch.dto.BatchSubRequestDto;
+import ru.practicum.shareit.booking.BookingClient;
+import ru.practicum.shareit.item.ItemClient;
+import ru.practicum.shareit.item.dto.ItemCreateDto;
+import ru.practicum.shareit.request.RequestClient;
+import ru.practicum.shareit.user.UserClient;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DisplayName("BatchController tests (gateway module)")
+class BatchControllerTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @MockBean
+    private UserClient userClient;
+
+    @MockBean
+    private ItemClient itemClient;
+
+    @MockBean
+    private BookingClient bookingClient;
+
+    @MockBean
+    private RequestClient requestClient;
+
+    @Test
+    void batch_ScreenRequests_RunConcurrentlyAndReturnEnvelope() throws Exception {
+        CountDownLatch allStarted = new CountDownLatch(4);
+        when(userClient.getUserById(1L)).thenAnswer(respondAfterAll(allStarted, "{\"id\":1,\"name\":\"User\"}"));
+        when(itemClient.getItemsForOwner(1L)).thenAnswer(respondAfterAll(allStarted, "[{\"id\":7}]"));
+        when(bookingClient.getBookingsByBooker(1L, "CURRENT", null, null)).thenAnswer(respondAfterAll(allStarted, "[]"));
+        when(requestClient.getUserRequests(1L)).thenAnswer(respondAfterAll(allStarted, "[{\"id\":3}]"));
+
+        ResponseEntity<JsonNode> response = postBatch(1L, BatchRequestDto.builder().requests(List.of(
+                get("user", "/users/1"),
+                get("items", "/items"),
+                get("bookings", "/bookings?state=CURRENT"),
+                get("requests", "/requests")
+        )).build());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        JsonNode responses = response.getBody().get("responses");
+        assertThat(responses).hasSize(4);
+        assertThat(responses.get(0).get("id").asText()).isEqualTo("user");
+        assertThat(responses.get(0).get("status").asInt()).isEqualTo(200);
+        assertThat(responses.get(0).get("body").get("name").asText()).isEqualTo("User");
+        assertThat(responses.get(1).get("body").get(0).get("id").asLong()).isEqualTo(7L);
+        assertThat(responses.get(2).get("body").isArray()).isTrue();
+        assertThat(responses.get(3).get("body").get(0).get("id").asLong()).isEqualTo(3L);
+    }
+
+    @Test
+    void batch_InvalidSubRequests_ValidatedIndividually() {
+        when(userClient.getUserById(1L))
+                .thenReturn(ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON)
+                        .body("{\"id\":1}".getBytes(StandardCharsets.UTF_8)));
+        BatchSubRequestDto invalidItem = BatchSubRequestDto.builder()
+                .id("item")
+                .method("POST")
+                .path("/items")
+                .body(objectMapper.valueToTree(ItemCreateDto.builder().name("").available(true).build()))
+                .build();
+
+        ResponseEntity<JsonNode> response = postBatch(1L, BatchRequestDto.builder().requests(List.of(
+                get("user", "/users/1"),
+                get("badUser", "/users/0"),
+                invalidItem,
+                get("missing", "/unknown")
+        )).build());
+
+        JsonNode responses = response.getBody().get("responses");
+        assertThat(responses.get(0).get("status").asInt()).isEqualTo(200);
+        assertThat(responses.get(1).get("status").asInt()).isEqualTo(400);
+        assertThat(responses.get(1).get("body").get("details").get("getById.userId").asText())
+                .isEqualTo("User id must be a positive number");
+        assertThat(responses.get(2).get("status").asInt()).isEqualTo(400);
+        assertThat(responses.get(2).get("body").get("details").has("name")).isTrue();
+        assertThat(responses.get(3).get("status").asInt()).isIn(400, 404);
+        verify(itemClient, never()).addItem(anyLong(), any());
+    }
+
+    @Test
+    void batch_OnlySubRequestsTakeAdmissionPermits() {
+        CountDownLatch allStarted = new CountDownLatch(2);
+        AtomicInteger inFlight = new AtomicInteger();
+        Answer<ResponseEntity<Object>> recordInFlight = invocation -> {
+            allStarted.countDown();
+            assertThat(allStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            inFlight.accumulateAndGet(limiter.inFlight(), Math::max);
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON)
+                    .body("{}".getBytes(StandardCharsets.UTF_8));
+        };
+        when(userClient.getUserById(1L)).thenAnswer(recordInFlight);
+        when(requestClient.getUserRequests(1L)).thenAnswer(recordInFlight);
+
+        ResponseEntity<JsonNode> response = postBatch(1L, BatchRequestDto.builder().requests(List.of(
+                get("user", "/users/1"),
+                get("requests", "/requests")
+        )).build());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(inFlight).hasValue(2);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    @Test
+    void batch_SubRequestAcceptsGzip_BodyEmbeddedAsPlainJson() throws Exception {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream deflater = new GZIPOutputStream(compressed)) {
+            deflater.write("{\"id\":1,\"name\":\"User\"}".getBytes(StandardCharsets.UTF_8));
+        }
+        when(userClient.getUserById(1L)).thenReturn(ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .body(compressed.toByteArray()));
+        BatchSubRequestDto gzipUser = BatchSubRequestDto.builder()
+                .id("user")
+                .method("GET")
+                .path("/users/1")
+                .headers(Map.of(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .build();
+
+        ResponseEntity<JsonNode> response = postBatch(1L, BatchRequestDto.builder().requests(List.of(gzipUser)).build());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        JsonNode user = response.getBody().get("responses").get(0);
+        assertThat(user.get("status").asInt()).isEqualTo(200);
+        assertThat(user.get("headers").has(HttpHeaders.CONTENT_ENCODING)).isFalse();
+        assertThat(user.get("body").get("name").asText()).isEqualTo("User");
+    }
+
+    @Test
+    void batch_NestedBatchOrEmpty_ReturnsBadRequest() {
+        ResponseEntity<JsonNode> nested = postBatch(1L, BatchRequestDto.builder()
+                .requests(List.of(get("nested", "/batch"))).build());
+        ResponseEntity<JsonNode> empty = postBatch(1L, BatchRequestDto.builder().requests(List.of()).build());
+
+        assertThat(nested.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(empty.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    private ResponseEntity<JsonNode> postBatch(long userId, BatchRequestDto batch) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("X-Sharer-User-Id", String.valueOf(userId));
+        return restTemplate.exchange("/batch", HttpMethod.POST, new HttpEntity<>(batch, headers), JsonNode.class);
+    }
+
+    private static BatchSubRequestDto get(String id, String path) {
+        return BatchSubRequestDto.builder().id(id).method("GET").path(path).build();
+    }
+
+    private static Answer<ResponseEntity<Object>> respondAfterAll(CountDownLatch allStarted, String json) {
+        return invocation -> {
+            allStarted.countDown();
+            assertThat(allStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON)
+                    .body(json.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+}
@@ -12,14 +12,20 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.booking.dto.BookingDecisionDto;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(BookingController.class)
@@ -198,6 +204,56 @@ public class BookingControllerTest {
                 .andExpect(content().json(responseBody));
     }
 
+    @Test
+    void decideBookings_ValidDecisions_ReturnsOk() throws Exception {
+        String responseBody = """
+                [
+                    {"bookingId": 1, "outcome": "APPLIED", "status": "APPROVED"},
+                    {"bookingId": 2, "outcome": "NOT_FOUND"}
+                ]
+                """;
+        when(bookingClient.decideBookings(eq(1L), anyList()))
+                .thenReturn(ResponseEntity.ok(responseBody));
+
+        mockMvc.perform(patch("/bookings")
+                        .header("X-Sharer-User-Id", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(
+                                new BookingDecisionDto(1L, true), new BookingDecisionDto(2L, false)))))
+                .andExpect(status().isOk())
+                .andExpect(content().json(responseBody));
+    }
+
+    @Test
+    void decideBookings_InvalidDecisions_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(patch("/bookings")
+                        .header("X-Sharer-User-Id", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(patch("/bookings")
+                        .header("X-Sharer-User-Id", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(new BookingDecisionDto(0L, true)))))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(patch("/bookings")
+                        .header("X-Sharer-User-Id", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(new BookingDecisionDto(1L, null)))))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(patch("/bookings")
+                        .header("X-Sharer-User-Id", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                Collections.nCopies(101, new BookingDecisionDto(1L, true)))))
+                .andExpect(status().isBadRequest());
+
+        verify(bookingClient, never()).decideBookings(anyLong(), anyList());
+    }
+
     @Test
     void updateStatus_InvalidIds_ReturnsBadRequest() throws Exception {
         mockMvc.perform(patch("/bookings/1")
@@ -270,7 +326,7 @@ public class BookingControllerTest {
                 """;
         ResponseEntity<Object> responseEntity = ResponseEntity.ok(responseBody);
 
-        when(bookingClient.getBookingsByBooker(anyLong(), anyString()))
+        when(bookingClient.getBookingsByBooker(anyLong(), anyString(), any(), any()))
                 .thenReturn(responseEntity);
 
         mockMvc.perform(get("/bookings")
@@ -297,6 +353,30 @@ public class BookingControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void getBookingsByBooker_WithCursor_ForwardsPageAndNextCursor() throws Exception {
+        when(bookingClient.getBookingsByBooker(1L, "PAST", "abc", 5))
+                .thenReturn(ResponseEntity.ok().header("X-Next-Cursor", "def").body("[]"));
+
+        mockMvc.perform(get("/bookings")
+                        .header("X-Sharer-User-Id", 1L)
+                        .param("state", "PAST")
+                        .param("cursor", "abc")
+                        .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "def"));
+    }
+
+    @Test
+    void getBookingsByOwner_NonPositiveSize_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/bookings/owner")
+                        .header("X-Sharer-User-Id", 1L)
+                        .param("size", "0"))
+                .andExpect(status().isBadRequest());
+
+        verify(bookingClient, never()).getBookingsByOwner(anyLong(), anyString(), any(), any());
+    }
+
     @Test
     void getBookingsByOwner_ValidData_ReturnsOk() throws Exception {
         String responseBody = """
@@ -311,7 +391,7 @@ public class BookingControllerTest {
                 """;
         ResponseEntity<Object> responseEntity = ResponseEntity.ok(responseBody);
 
-        when(bookingClient.getBookingsByOwner(anyLong(), anyString()))
+        when(bookingClient.getBookingsByOwner(anyLong(), anyString(), any(), any()))
                 .thenReturn(responseEntity);
 
         mockMvc.perform(get("/bookings/owner")
@@ -0,0 +1,133 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.booking.dto.BookingDecisionDto;
+import ru.practicum.shareit.booking.dto.BookingRequestDto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@WebFluxTest(controllers = ReactiveBookingController.class, properties = "spring.main.web-application-type=reactive")
+@DisplayName("ReactiveBookingController tests (gateway module)")
+class ReactiveBookingControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ReactiveBookingClient bookingClient;
+
+    @Test
+    void addBooking_ValidData_ReturnsServerResponse() {
+        when(bookingClient.addBooking(anyLong(), any(BookingRequestDto.class)))
+                .thenReturn(serverResponse("{\"id\":1,\"status\":\"WAITING\"}"));
+
+        webTestClient.post().uri("/bookings")
+                .header("X-Sharer-User-Id", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(BookingRequestDto.builder()
+                        .itemId(1L)
+                        .start(LocalDateTime.now().plusDays(1))
+                        .end(LocalDateTime.now().plusDays(2))
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("{\"id\":1,\"status\":\"WAITING\"}");
+    }
+
+    @Test
+    void addBooking_StartInPast_ReturnsBadRequest() {
+        webTestClient.post().uri("/bookings")
+                .header("X-Sharer-User-Id", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(BookingRequestDto.builder()
+                        .itemId(1L)
+                        .start(LocalDateTime.now().minusDays(1))
+                        .end(LocalDateTime.now().plusDays(2))
+                        .build())
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verify(bookingClient, never()).addBooking(anyLong(), any(BookingRequestDto.class));
+    }
+
+    @Test
+    void updateStatus_ValidData_ReturnsServerResponse() {
+        when(bookingClient.updateStatus(1L, 5L, true)).thenReturn(serverResponse("{\"id\":5,\"status\":\"APPROVED\"}"));
+
+        webTestClient.patch().uri("/bookings/5?approved=true")
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("{\"id\":5,\"status\":\"APPROVED\"}");
+    }
+
+    @Test
+    void decideBookings_EmptyList_ReturnsBadRequest() {
+        webTestClient.patch().uri("/bookings")
+                .header("X-Sharer-User-Id", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of())
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verify(bookingClient, never()).decideBookings(anyLong(), anyList());
+    }
+
+    @Test
+    void decideBookings_ValidDecisions_ReturnsServerResponse() {
+        when(bookingClient.decideBookings(eq(1L), anyList()))
+                .thenReturn(serverResponse("[{\"bookingId\":5,\"outcome\":\"APPLIED\"}]"));
+
+        webTestClient.patch().uri("/bookings")
+                .header("X-Sharer-User-Id", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(new BookingDecisionDto(5L, true)))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("[{\"bookingId\":5,\"outcome\":\"APPLIED\"}]");
+    }
+
+    @Test
+    void getBookingsByOwner_PassesPagingParameters() {
+        when(bookingClient.getBookingsByOwner(1L, "WAITING", "abc", 20)).thenReturn(serverResponse("[]"));
+
+        webTestClient.get().uri("/bookings/owner?state=WAITING&cursor=abc&size=20")
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("[]");
+    }
+
+    @Test
+    void getBookingById_InvalidBookingId_ReturnsBadRequest() {
+        webTestClient.get().uri("/bookings/0")
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verify(bookingClient, never()).getBookingById(anyLong(), anyLong());
+    }
+
+    private static Mono<ResponseEntity<Flux<DataBuffer>>> serverResponse(String json) {
+        DataBuffer body = DefaultDataBufferFactory.sharedInstance.wrap(json.getBytes(StandardCharsets.UTF_8));
+        return Mono.just(ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Flux.just(body)));
+    }
+}
@@ -0,0 +1,145 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BaseClient GET coalescing tests (gateway module)")
+class BaseClientCoalescingTest {
+    private static final int CALLERS = 50;
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final CountDownLatch releaseUpstream = new CountDownLatch(1);
+    private volatile boolean failUpstream;
+    private TestClient client;
+
+    @BeforeEach
+    void setUp() {
+        RestTemplate rest = new RestTemplate((URI uri, HttpMethod method) -> {
+            MockClientHttpRequest request = new MockClientHttpRequest(method, uri) {
+                @Override
+                protected MockClientHttpResponse executeInternal() throws IOException {
+                    upstreamCalls.incrementAndGet();
+                    try {
+                        releaseUpstream.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    if (failUpstream) {
+                        throw new IOException("Connection reset");
+                    }
+                    String userId = getHeaders().getFirst("X-Sharer-User-Id");
+                    byte[] body = ("{\"uri\":\"" + uri + "\",\"user\":\"" + userId + "\"}").getBytes(StandardCharsets.UTF_8);
+                    MockClientHttpResponse response = new MockClientHttpResponse(body, HttpStatus.OK);
+                    response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                    return response;
+                }
+            };
+            return request;
+        });
+        rest.setUriTemplateHandler(new DefaultUriBuilderFactory("http://localhost:9090/items"));
+        client = new TestClient(rest);
+    }
+
+    @Test
+    void get_ConcurrentIdenticalRequests_SendsOneUpstreamCall() throws Exception {
+        List<Future<ResponseEntity<Object>>> responses = callConcurrently(i -> client.search("drill", 1L));
+
+        assertThat(upstreamCalls).hasValue(1);
+        for (Future<ResponseEntity<Object>> response : responses) {
+            assertThat(response.get().getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(new String((byte[]) response.get().getBody(), StandardCharsets.UTF_8))
+                    .isEqualTo("{\"uri\":\"http://localhost:9090/items/search?text=drill\",\"user\":\"1\"}");
+        }
+    }
+
+    @Test
+    void get_DifferentUsersOrQueries_NotCoalesced() throws Exception {
+        List<Future<ResponseEntity<Object>>> responses = callConcurrently(i -> client.search("drill" + (i % 2), 1L + i % 3));
+
+        for (Future<ResponseEntity<Object>> response : responses) {
+            response.get();
+        }
+        assertThat(upstreamCalls).hasValue(6);
+    }
+
+    @Test
+    void get_SequentialRequests_EachGoesUpstream() {
+        releaseUpstream.countDown();
+
+        client.search("drill", 1L);
+        client.search("drill", 1L);
+
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    @Test
+    void post_ConcurrentIdenticalRequests_NotCoalesced() throws Exception {
+        List<Future<ResponseEntity<Object>>> responses = callConcurrently(i -> client.create(1L));
+
+        for (Future<ResponseEntity<Object>> response : responses) {
+            response.get();
+        }
+        assertThat(upstreamCalls).hasValue(CALLERS);
+    }
+
+    @Test
+    void get_UpstreamFailure_PropagatedToAllWaiters() throws Exception {
+        failUpstream = true;
+        List<Future<ResponseEntity<Object>>> responses = callConcurrently(i -> client.search("drill", 1L));
+
+        assertThat(upstreamCalls).hasValue(1);
+        for (Future<ResponseEntity<Object>> response : responses) {
+            assertThatThrownBy(response::get).hasCauseInstanceOf(ResourceAccessException.class);
+        }
+    }
+
+    private List<Future<ResponseEntity<Object>>> callConcurrently(IntFunction<ResponseEntity<Object>> call) throws InterruptedException {
+        List<Future<ResponseEntity<Object>>> responses = new ArrayList<>(CALLERS);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CALLERS; i++) {
+                int caller = i;
+                responses.add(executor.submit(() -> call.apply(caller)));
+            }
+            Thread.sleep(200);
+            releaseUpstream.countDown();
+        }
+        return responses;
+    }
+
+    private static class TestClient extends BaseClient {
+        TestClient(RestTemplate rest) {
+            super(rest);
+        }
+
+        ResponseEntity<Object> search(String text, long userId) {
+            return get("/search?text={text}", userId, Map.of("text", text));
+        }
+
+        ResponseEntity<Object> create(long userId) {
+            return post("", userId, Map.of("name", "Drill"));
+        }
+    }
+}
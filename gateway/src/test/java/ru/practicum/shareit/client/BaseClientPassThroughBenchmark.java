@@ -0,0 +1,132 @@
+package ru.practicum.shareit.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures time and allocation per proxied {@code GET /bookings/owner} call with and without pass-through.
+ * Run with {@code mvn -pl gateway test -Pbenchmark -Dtest=BaseClientPassThroughBenchmark}
+ * and compare {@code gc.alloc.rate.norm} between the two modes.
+ */
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BaseClientPassThroughBenchmark {
+    @Param({"true", "false"})
+    public boolean passThrough;
+
+    @Param({"500"})
+    public int bookings;
+
+    private OwnerBookingsClient client;
+    private ByteArrayHttpMessageConverter byteArrayConverter;
+    private MappingJackson2HttpMessageConverter jsonConverter;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        byte[] payload = objectMapper.writeValueAsBytes(ownerBookings(bookings));
+
+        RestTemplate rest = new RestTemplate((uri, method) -> {
+            MockClientHttpResponse response = new MockClientHttpResponse(payload, HttpStatus.OK);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            MockClientHttpRequest request = new MockClientHttpRequest(method, uri);
+            request.setResponse(response);
+            return request;
+        });
+        rest.setUriTemplateHandler(new DefaultUriBuilderFactory("http://localhost:9090/bookings"));
+
+        client = new OwnerBookingsClient(rest, passThrough);
+        byteArrayConverter = new ByteArrayHttpMessageConverter();
+        jsonConverter = new MappingJackson2HttpMessageConverter(objectMapper);
+    }
+
+    @Benchmark
+    public ResponseEntity<Object> getBookingsByOwner() throws IOException {
+        ResponseEntity<Object> response = client.getBookingsByOwner(1L);
+        writeToGatewayClient(response.getBody());
+        return response;
+    }
+
+    @Test
+    void run() throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(getClass().getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+
+    private void writeToGatewayClient(Object body) throws IOException {
+        HttpOutputMessage outputMessage = new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return OutputStream.nullOutputStream();
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return new HttpHeaders();
+            }
+        };
+        if (body instanceof byte[] bytes) {
+            byteArrayConverter.write(bytes, MediaType.APPLICATION_JSON, outputMessage);
+        } else {
+            jsonConverter.write(body, MediaType.APPLICATION_JSON, outputMessage);
+        }
+    }
+
+    private static List<Map<String, Object>> ownerBookings(int count) {
+        List<Map<String, Object>> result = new ArrayList<>(count);
+        for (long i = 1; i <= count; i++) {
+            result.add(Map.of(
+                    "id", i,
+                    "start", "2026-01-01T10:00:00",
+                    "end", "2026-01-02T10:00:00",
+                    "status", "APPROVED",
+                    "booker", Map.of("id", i, "name", "Booker " + i, "email", "booker" + i + "@example.com"),
+                    "item", Map.of("id", i, "name", "Item " + i, "description", "Description of item " + i,
+                            "available", true)
+            ));
+        }
+        return result;
+    }
+
+    private static class OwnerBookingsClient extends BaseClient {
+        OwnerBookingsClient(RestTemplate rest, boolean passThrough) {
+            super(rest, passThrough);
+        }
+
+        ResponseEntity<Object> getBookingsByOwner(long userId) {
+            return get("/owner?state={state}", userId, Map.of("state", "ALL"));
+        }
+    }
+}
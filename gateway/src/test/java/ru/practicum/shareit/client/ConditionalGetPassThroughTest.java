@@ -0,0 +1,110 @@
+package ru.practicum.shareit.client;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("Gateway conditional GET pass-through tests")
+class ConditionalGetPassThroughTest {
+    private static final String ETAG = "\"1-0\"";
+    private static final Queue<String> IF_NONE_MATCH = new ConcurrentLinkedQueue<>();
+    private static final WebServer SERVER = startStubServer();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @DynamicPropertySource
+    static void serverUrl(DynamicPropertyRegistry registry) {
+        registry.add("shareit-server.url", () -> "http://localhost:" + SERVER.getPort());
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        SERVER.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        IF_NONE_MATCH.clear();
+    }
+
+    @Test
+    void withoutIfNoneMatch_ReturnsBodyAndETag() throws Exception {
+        mockMvc.perform(get("/users/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(jsonPath("$.id").value(1));
+
+        assertThat(IF_NONE_MATCH).containsExactly("none");
+    }
+
+    @Test
+    void matchingIfNoneMatch_ForwardedAndNotModifiedReturned() throws Exception {
+        mockMvc.perform(get("/users/1")
+                        .header(HttpHeaders.IF_NONE_MATCH, ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(content().string(""));
+
+        assertThat(IF_NONE_MATCH).containsExactly(ETAG);
+    }
+
+    @Test
+    void staleIfNoneMatch_ReturnsBody() throws Exception {
+        mockMvc.perform(get("/users/1")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"1-7\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(jsonPath("$.name").value("User"));
+    }
+
+    private static WebServer startStubServer() {
+        WebServer server = new TomcatServletWebServerFactory(0).getWebServer(servletContext -> servletContext
+                .addServlet("users", new HttpServlet() {
+                    @Override
+                    protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+                        IF_NONE_MATCH.add(ifNoneMatch != null ? ifNoneMatch : "none");
+                        response.setHeader(HttpHeaders.ETAG, ETAG);
+                        if (ETAG.equals(ifNoneMatch)) {
+                            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                            return;
+                        }
+                        byte[] body = "{\"id\":1,\"name\":\"User\"}".getBytes(StandardCharsets.UTF_8);
+                        response.setContentType("application/json");
+                        response.setContentLength(body.length);
+                        response.getOutputStream().write(body);
+                    }
+                })
+                .addMapping("/users/*"));
+        server.start();
+        return server;
+    }
+}
@@ -0,0 +1,100 @@
+package ru.practicum.shareit.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Measures the CPU cost of gzip for a {@code GET /bookings/owner} payload: compressing on the server,
+ * forwarding the compressed body in the gateway, and inflating plus recompressing it in the gateway instead.
+ * Bytes on the wire for each payload size are printed during setup.
+ * Run with {@code mvn -pl gateway test -Pbenchmark -Dtest=GzipPassThroughBenchmark}.
+ */
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GzipPassThroughBenchmark {
+    @Param({"10", "100", "1000"})
+    public int bookings;
+
+    private byte[] json;
+    private byte[] gzipped;
+
+    @Setup
+    public void setUp() throws IOException {
+        json = new ObjectMapper().writeValueAsBytes(ownerBookings(bookings));
+        gzipped = gzip(json);
+        System.out.printf("%nbookings=%d identity=%d bytes gzip=%d bytes (%.1f%%)%n",
+                bookings, json.length, gzipped.length, 100.0 * gzipped.length / json.length);
+    }
+
+    @Benchmark
+    public byte[] serverCompress() throws IOException {
+        return gzip(json);
+    }
+
+    @Benchmark
+    public int gatewayForwardCompressed() throws IOException {
+        OutputStream client = OutputStream.nullOutputStream();
+        client.write(gzipped);
+        return gzipped.length;
+    }
+
+    @Benchmark
+    public byte[] gatewayInflateAndRecompress() throws IOException {
+        try (GZIPInputStream inflater = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            return gzip(inflater.readAllBytes());
+        }
+    }
+
+    @Test
+    void run() throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(getClass().getSimpleName())
+                .build())
+                .run();
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(body);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static List<Map<String, Object>> ownerBookings(int count) {
+        List<Map<String, Object>> result = new ArrayList<>(count);
+        for (long i = 1; i <= count; i++) {
+            result.add(Map.of(
+                    "id", i,
+                    "start", "2026-01-01T10:00:00",
+                    "end", "2026-01-02T10:00:00",
+                    "status", "APPROVED",
+                    "booker", Map.of("id", i, "name", "Booker " + i, "email", "booker" + i + "@example.com"),
+                    "item", Map.of("id", i, "name", "Item " + i, "description", "Description of item " + i,
+                            "available", true)
+            ));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,130 @@
+package ru.practicum.shareit.client;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("Gateway gzip pass-through tests")
+class GzipPassThroughTest {
+    private static final String USER_JSON = "{\"id\":1,\"name\":\"User\",\"email\":\"user@example.com\"}";
+    private static final Queue<String> ACCEPT_ENCODINGS = new ConcurrentLinkedQueue<>();
+    private static final WebServer SERVER = startStubServer();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @DynamicPropertySource
+    static void serverUrl(DynamicPropertyRegistry registry) {
+        registry.add("shareit-server.url", () -> "http://localhost:" + SERVER.getPort());
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        SERVER.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        ACCEPT_ENCODINGS.clear();
+    }
+
+    @Test
+    void clientAcceptsGzip_CompressedBodyForwardedAsIs() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get("/users/1")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn()
+                .getResponse();
+
+        assertThat(ACCEPT_ENCODINGS).containsExactly("gzip");
+        assertThat(response.getContentAsByteArray()).isEqualTo(gzip(USER_JSON));
+        assertThat(gunzip(response.getContentAsByteArray())).isEqualTo(USER_JSON);
+    }
+
+    @Test
+    void clientWithoutGzip_BodyInflatedByGateway() throws Exception {
+        mockMvc.perform(get("/users/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(jsonPath("$.email").value("user@example.com"));
+
+        assertThat(ACCEPT_ENCODINGS).containsExactly("gzip");
+    }
+
+    @Test
+    void clientRejectsGzip_BodyInflatedByGateway() throws Exception {
+        mockMvc.perform(get("/users/1")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(jsonPath("$.id").value(1));
+    }
+
+    private static WebServer startStubServer() {
+        WebServer server = new TomcatServletWebServerFactory(0).getWebServer(servletContext -> servletContext
+                .addServlet("users", new HttpServlet() {
+                    @Override
+                    protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+                        ACCEPT_ENCODINGS.add(String.valueOf(acceptEncoding));
+                        byte[] body = USER_JSON.getBytes(StandardCharsets.UTF_8);
+                        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+                            body = gzip(USER_JSON);
+                            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+                        }
+                        response.setContentType("application/json");
+                        response.setContentLength(body.length);
+                        response.getOutputStream().write(body);
+                    }
+                })
+                .addMapping("/users/*"));
+        server.start();
+        return server;
+    }
+
+    private static byte[] gzip(String text) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+
+    private static String gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package ru.practicum.shareit.client;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.coyote.http2.Http2Protocol;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "shareit-server.http-client.protocol=h2c")
+@AutoConfigureMockMvc
+@DisplayName("Gateway h2c transport tests")
+class H2cTransportTest {
+    private static final Queue<String> PROTOCOLS = new ConcurrentLinkedQueue<>();
+    private static final WebServer HTTP2_SERVER = startStubServer(true);
+    private static final WebServer HTTP11_SERVER = startStubServer(false);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ClientHttpRequestFactory shareitServerRequestFactory;
+
+    @DynamicPropertySource
+    static void serverUrls(DynamicPropertyRegistry registry) {
+        registry.add("shareit-server.url", () -> "http://localhost:" + HTTP2_SERVER.getPort());
+    }
+
+    @AfterAll
+    static void stopStubServers() {
+        HTTP2_SERVER.stop();
+        HTTP11_SERVER.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        PROTOCOLS.clear();
+    }
+
+    @Test
+    void serverWithHttp2_RequestsUpgradedToH2c() throws Exception {
+        for (long userId = 1; userId <= 3; userId++) {
+            mockMvc.perform(get("/users/" + userId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.id").value(1));
+        }
+
+        assertThat(PROTOCOLS).hasSize(3).last().isEqualTo("HTTP/2.0");
+    }
+
+    @Test
+    void serverWithoutHttp2_FallsBackToHttp11() throws Exception {
+        TestUserClient client = new TestUserClient("http://localhost:" + HTTP11_SERVER.getPort(), shareitServerRequestFactory);
+
+        assertThat(client.getUser(1L).getStatusCode().value()).isEqualTo(200);
+        assertThat(PROTOCOLS).containsExactly("HTTP/1.1");
+    }
+
+    private static WebServer startStubServer(boolean http2) {
+        TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory(0);
+        if (http2) {
+            factory.addConnectorCustomizers(connector -> connector.addUpgradeProtocol(new Http2Protocol()));
+        }
+        WebServer server = factory.getWebServer(servletContext -> servletContext
+                .addServlet("users", new HttpServlet() {
+                    @Override
+                    protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                        PROTOCOLS.add(request.getProtocol());
+                        byte[] body = "{\"id\":1,\"name\":\"User\"}".getBytes(StandardCharsets.UTF_8);
+                        response.setContentType("application/json");
+                        response.setContentLength(body.length);
+                        response.getOutputStream().write(body);
+                    }
+                })
+                .addMapping("/users/*"));
+        server.start();
+        return server;
+    }
+
+    private static class TestUserClient extends BaseClient {
+        TestUserClient(String serverUrl, ClientHttpRequestFactory requestFactory) {
+            super(new RestTemplateBuilder()
+                    .rootUri(serverUrl + "/users")
+                    .requestFactory(() -> requestFactory)
+                    .build());
+        }
+
+        ResponseEntity<Object> getUser(long userId) {
+            return get("/" + userId);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package ru.practicum.shareit.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "shareit-server.hedging.enabled=true",
+        "shareit-server.hedging.delay=50ms",
+        "shareit-server.hedging.budget-percent=100",
+        "spring.cache.type=none"
+})
+@AutoConfigureMockMvc
+@DisplayName("Gateway hedged GET tests against a stub server")
+class HedgedGetTest {
+    private static final AtomicInteger CALLS = new AtomicInteger();
+    private static volatile CountDownLatch firstCall = new CountDownLatch(1);
+    private static final HttpServer SERVER = startStubServer();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @DynamicPropertySource
+    static void serverUrl(DynamicPropertyRegistry registry) {
+        registry.add("shareit-server.url", () -> "http://localhost:" + SERVER.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        firstCall.countDown();
+        SERVER.stop(0);
+    }
+
+    @BeforeEach
+    void setUp() {
+        CALLS.set(0);
+        firstCall = new CountDownLatch(1);
+    }
+
+    @Test
+    void slowItemResponse_AnsweredByHedge() throws Exception {
+        long started = System.nanoTime();
+        mockMvc.perform(get("/items/1").header("X-Sharer-User-Id", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1));
+
+        assertThat(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - started)).isLessThan(2);
+        assertThat(CALLS).hasValue(2);
+        assertThat(meterRegistry.get("shareit.server.hedging.wins").tag("client", "ItemClient")
+                .counter().count()).isEqualTo(1);
+        firstCall.countDown();
+    }
+
+    @Test
+    void nonHedgedRoute_SentOnce() throws Exception {
+        firstCall.countDown();
+        mockMvc.perform(get("/items").header("X-Sharer-User-Id", 1L))
+                .andExpect(status().isOk());
+
+        assertThat(CALLS).hasValue(1);
+    }
+
+    private static HttpServer startStubServer() {
+        HttpServer server;
+        try {
+            server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        server.createContext("/items", HedgedGetTest::handle);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+        return server;
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        if (CALLS.incrementAndGet() == 1) {
+            try {
+                firstCall.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        byte[] body = "{\"id\":1,\"name\":\"Drill\"}".getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (var out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LoadBalancer unit tests")
+class LoadBalancerTest {
+    private static final URI FIRST = URI.create("http://localhost:9091");
+    private static final URI SECOND = URI.create("http://localhost:9092");
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LoadBalancer loadBalancer;
+
+    @BeforeEach
+    void setUp() {
+        LoadBalancerProperties properties = new LoadBalancerProperties();
+        properties.setFailureThreshold(2);
+        properties.setEjectionDuration(Duration.ofSeconds(10));
+        properties.setSlowStart(Duration.ofSeconds(10));
+        loadBalancer = new LoadBalancer(List.of(FIRST, SECOND), properties, meterRegistry, clock::get);
+    }
+
+    @Test
+    void choose_PrefersInstanceWithFewestInFlight() {
+        LoadBalancer.Instance busy = instance(FIRST);
+        busy.start();
+        busy.start();
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(loadBalancer.choose().uri()).isEqualTo(SECOND);
+        }
+    }
+
+    @Test
+    void choose_IdleInstances_SpreadsTies() {
+        Map<URI, Integer> chosen = new HashMap<>();
+        for (int i = 0; i < 4; i++) {
+            chosen.merge(loadBalancer.choose().uri(), 1, Integer::sum);
+        }
+
+        assertThat(chosen).containsEntry(FIRST, 2).containsEntry(SECOND, 2);
+    }
+
+    @Test
+    void consecutiveFailures_EjectInstance() {
+        fail(instance(FIRST), 2);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(loadBalancer.choose().uri()).isEqualTo(SECOND);
+        }
+        assertThat(meterRegistry.get("shareit.server.instance.ejected").tag("instance", "localhost:9091")
+                .gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void successBetweenFailures_ResetsFailureCount() {
+        LoadBalancer.Instance first = instance(FIRST);
+        fail(first, 1);
+        first.finish(first.start(), false);
+        fail(first, 1);
+
+        assertThat(first.isEjected(clock.get())).isFalse();
+    }
+
+    @Test
+    void allInstancesEjected_FailsOpenToEarliestReturning() {
+        fail(instance(FIRST), 2);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        fail(instance(SECOND), 2);
+
+        assertThat(loadBalancer.choose().uri()).isEqualTo(FIRST);
+    }
+
+    @Test
+    void reinstatedInstance_RampsUpDuringSlowStart() {
+        LoadBalancer.Instance first = instance(FIRST);
+        LoadBalancer.Instance second = instance(SECOND);
+        fail(first, 2);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertThat(first.isEjected(clock.get())).isFalse();
+
+        for (int i = 0; i < 5; i++) {
+            second.start();
+        }
+        assertThat(loadBalancer.choose().uri()).isEqualTo(SECOND);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        assertThat(first.weight(clock.get())).isEqualTo(0.5);
+        assertThat(loadBalancer.choose().uri()).isEqualTo(FIRST);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        assertThat(first.weight(clock.get())).isEqualTo(1);
+    }
+
+    @Test
+    void finish_RecordsLatencyAndInFlight() {
+        LoadBalancer.Instance first = instance(FIRST);
+        long startedAt = first.start();
+        assertThat(meterRegistry.get("shareit.server.instance.in-flight").tag("instance", "localhost:9091")
+                .gauge().value()).isEqualTo(1);
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(20));
+        first.finish(startedAt, false);
+
+        assertThat(first.inFlight()).isZero();
+        assertThat(meterRegistry.get("shareit.server.instance.latency").tag("instance", "localhost:9091")
+                .timer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(20);
+    }
+
+    private LoadBalancer.Instance instance(URI uri) {
+        return loadBalancer.instances().stream()
+                .filter(instance -> instance.uri().equals(uri))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static void fail(LoadBalancer.Instance instance, int times) {
+        for (int i = 0; i < times; i++) {
+            instance.finish(instance.start(), true);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package ru.practicum.shareit.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "shareit-server.load-balancer.failure-threshold=2",
+        "shareit-server.load-balancer.ejection-duration=1h",
+        "resilience4j.circuitbreaker.configs.default.minimum-number-of-calls=100"
+})
+@AutoConfigureMockMvc
+@DisplayName("Gateway load balancing tests against several stub servers")
+class LoadBalancingInterceptorTest {
+    private static final List<Stub> STUBS = List.of(new Stub(), new Stub(), new Stub());
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @DynamicPropertySource
+    static void serverUrls(DynamicPropertyRegistry registry) {
+        registry.add("shareit-server.url", () -> STUBS.getFirst().url());
+        registry.add("shareit-server.load-balancer.instances",
+                () -> String.join(",", STUBS.stream().map(Stub::url).toList()));
+    }
+
+    @AfterAll
+    static void stopStubServers() {
+        STUBS.forEach(stub -> stub.server.stop(0));
+    }
+
+    @BeforeEach
+    void setUp() {
+        STUBS.forEach(Stub::reset);
+    }
+
+    @Test
+    void slowInstance_ReceivesNoFurtherRequestsWhileBusy() throws Exception {
+        Stub slow = STUBS.getFirst();
+        slow.latch = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<MvcResult>> held = new ArrayList<>();
+            for (int userId = 1; slow.calls.get() < 2 && userId <= 20; userId++) {
+                int id = userId;
+                held.add(executor.submit(() -> mockMvc.perform(get("/users/" + id)).andReturn()));
+                Thread.sleep(50);
+            }
+            int slowCalls = slow.calls.get();
+
+            for (int userId = 100; userId < 110; userId++) {
+                mockMvc.perform(get("/users/" + userId)).andExpect(status().isOk());
+            }
+
+            assertThat(slow.calls).hasValue(slowCalls);
+            assertThat(meterRegistry.get("shareit.server.instance.in-flight")
+                    .tag("instance", slow.authority()).gauge().value()).isEqualTo(slowCalls);
+
+            slow.latch.countDown();
+            for (Future<MvcResult> result : held) {
+                assertThat(result.get().getResponse().getStatus()).isEqualTo(200);
+            }
+        }
+    }
+
+    @Test
+    void failingInstance_IsEjected() throws Exception {
+        Stub failing = STUBS.get(1);
+        failing.status = 500;
+
+        for (int userId = 1; userId <= 30; userId++) {
+            mockMvc.perform(get("/users/" + userId));
+        }
+
+        assertThat(failing.calls).hasValue(2);
+        assertThat(meterRegistry.get("shareit.server.instance.ejected")
+                .tag("instance", failing.authority()).gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("shareit.server.instance.latency")
+                .tag("instance", STUBS.get(2).authority()).timer().count()).isPositive();
+    }
+
+    private static class Stub {
+        final HttpServer server;
+        final AtomicInteger calls = new AtomicInteger();
+        volatile int status;
+        volatile CountDownLatch latch;
+
+        Stub() {
+            try {
+                server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            server.createContext("/users", this::handle);
+            server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+            server.start();
+        }
+
+        void reset() {
+            calls.set(0);
+            status = 200;
+            latch = new CountDownLatch(0);
+        }
+
+        String authority() {
+            return "localhost:" + server.getAddress().getPort();
+        }
+
+        String url() {
+            return "http://" + authority();
+        }
+
+        private void handle(HttpExchange exchange) throws IOException {
+            calls.incrementAndGet();
+            try {
+                latch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "{\"id\":1,\"name\":\"User\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, body.length);
+            try (var out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+}
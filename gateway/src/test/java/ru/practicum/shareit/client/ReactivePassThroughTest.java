@@ -0,0 +1,133 @@
+package ru.practicum.shareit.client;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.netty.http.client.HttpClient;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.main.web-application-type=reactive")
+@DisplayName("Reactive gateway conditional GET and gzip pass-through tests")
+class ReactivePassThroughTest {
+    private static final String ETAG = "\"1-0\"";
+    private static final String USER_JSON = "{\"id\":1,\"name\":\"User\"}";
+    private static final Queue<String> IF_NONE_MATCH = new ConcurrentLinkedQueue<>();
+    private static final WebServer SERVER = startStubServer();
+
+    @LocalServerPort
+    private int port;
+
+    private WebTestClient webTestClient;
+
+    @DynamicPropertySource
+    static void serverUrl(DynamicPropertyRegistry registry) {
+        registry.add("shareit-server.url", () -> "http://localhost:" + SERVER.getPort());
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        SERVER.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        IF_NONE_MATCH.clear();
+        // The default connector inflates gzip and drops Content-Encoding; this one shows the bytes as sent.
+        webTestClient = WebTestClient.bindToServer(new ReactorClientHttpConnector(HttpClient.create()))
+                .baseUrl("http://localhost:" + port)
+                .build();
+    }
+
+    @Test
+    void matchingIfNoneMatch_ForwardedAndNotModifiedReturned() {
+        webTestClient.get().uri("/users/1")
+                .header(HttpHeaders.IF_NONE_MATCH, ETAG)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, ETAG);
+
+        assertThat(IF_NONE_MATCH).containsExactly(ETAG);
+    }
+
+    @Test
+    void gzipAccepted_ServerBodyPassedThroughCompressed() throws IOException {
+        byte[] body = webTestClient.get().uri("/users/1")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .expectBody(byte[].class).returnResult().getResponseBody();
+
+        try (GZIPInputStream inflater = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertThat(new String(inflater.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(USER_JSON);
+        }
+    }
+
+    @Test
+    void gzipNotAccepted_ServerSendsPlainBody() {
+        webTestClient.get().uri("/users/1")
+                .header(HttpHeaders.ACCEPT_ENCODING, "identity")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist(HttpHeaders.CONTENT_ENCODING)
+                .expectBody(String.class).isEqualTo(USER_JSON);
+
+        assertThat(IF_NONE_MATCH).containsExactly("none");
+    }
+
+    private static WebServer startStubServer() {
+        WebServer server = new TomcatServletWebServerFactory(0).getWebServer(servletContext -> servletContext
+                .addServlet("users", new HttpServlet() {
+                    @Override
+                    protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+                        IF_NONE_MATCH.add(ifNoneMatch != null ? ifNoneMatch : "none");
+                        response.setHeader(HttpHeaders.ETAG, ETAG);
+                        if (ETAG.equals(ifNoneMatch)) {
+                            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                            return;
+                        }
+                        byte[] body = USER_JSON.getBytes(StandardCharsets.UTF_8);
+                        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+                        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+                            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+                            try (GZIPOutputStream deflater = new GZIPOutputStream(compressed)) {
+                                deflater.write(body);
+                            }
+                            body = compressed.toByteArray();
+                            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+                        }
+                        response.setContentType("application/json");
+                        response.setContentLength(body.length);
+                        response.getOutputStream().write(body);
+                    }
+                })
+                .addMapping("/users/*"));
+        server.start();
+        return server;
+    }
+}
@@ -0,0 +1,134 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RequestHedger unit tests")
+class RequestHedgerTest {
+    private static final String CLIENT = "ItemClient";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch slowCall = new CountDownLatch(1);
+    private RequestHedger hedger;
+
+    @AfterEach
+    void tearDown() {
+        slowCall.countDown();
+        hedger.close();
+    }
+
+    @Test
+    void fastResponse_NotHedged() {
+        hedger = hedger(100);
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThat(hedger.call(CLIENT, () -> calls.incrementAndGet())).isEqualTo(1);
+
+        assertThat(calls).hasValue(1);
+        assertThat(count("shareit.server.hedging.requests")).isEqualTo(1);
+        assertThat(count("shareit.server.hedging.hedges")).isZero();
+    }
+
+    @Test
+    void slowResponse_HedgeAnswersFirst() {
+        hedger = hedger(100);
+        AtomicInteger calls = new AtomicInteger();
+
+        String response = hedger.call(CLIENT, slowFirst(calls, "primary", "hedge"));
+
+        assertThat(response).isEqualTo("hedge");
+        assertThat(calls).hasValue(2);
+        assertThat(count("shareit.server.hedging.hedges")).isEqualTo(1);
+        assertThat(count("shareit.server.hedging.wins")).isEqualTo(1);
+    }
+
+    @Test
+    void budgetSpent_WaitsForPrimary() throws Exception {
+        hedger = hedger(0);
+        AtomicInteger calls = new AtomicInteger();
+
+        Thread.ofVirtual().start(() -> {
+            sleep(100);
+            slowCall.countDown();
+        });
+        String response = hedger.call(CLIENT, slowFirst(calls, "primary", "hedge"));
+
+        assertThat(response).isEqualTo("primary");
+        assertThat(calls).hasValue(1);
+        assertThat(count("shareit.server.hedging.budget-exhausted")).isEqualTo(1);
+    }
+
+    @Test
+    void failedHedge_PrimaryStillAnswers() {
+        hedger = hedger(100);
+        AtomicInteger calls = new AtomicInteger();
+
+        String response = hedger.call(CLIENT, () -> {
+            if (calls.incrementAndGet() == 1) {
+                sleep(200);
+                return "primary";
+            }
+            throw new IllegalStateException("hedge failed");
+        });
+
+        assertThat(response).isEqualTo("primary");
+        assertThat(count("shareit.server.hedging.wins")).isZero();
+    }
+
+    @Test
+    void bothFail_ThrowsFailure() {
+        hedger = hedger(100);
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> hedger.call(CLIENT, () -> {
+            if (calls.incrementAndGet() == 1) {
+                sleep(100);
+            }
+            throw new IllegalStateException("server down");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("server down");
+    }
+
+    private RequestHedger hedger(double budgetPercent) {
+        HedgingProperties properties = new HedgingProperties();
+        properties.setDelay(Duration.ofMillis(20));
+        properties.setBudgetPercent(budgetPercent);
+        return new RequestHedger(properties, meterRegistry);
+    }
+
+    private Supplier<String> slowFirst(AtomicInteger calls, String first, String second) {
+        return () -> {
+            if (calls.incrementAndGet() == 1) {
+                try {
+                    slowCall.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return first;
+            }
+            return second;
+        };
+    }
+
+    private double count(String name) {
+        return meterRegistry.get(name).tag("client", CLIENT).counter().count();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package ru.practicum.shareit.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "resilience4j.circuitbreaker.configs.default.sliding-window-size=4",
+        "resilience4j.circuitbreaker.configs.default.minimum-number-of-calls=4",
+        "resilience4j.circuitbreaker.configs.default.slow-call-duration-threshold=300ms",
+        "resilience4j.circuitbreaker.configs.default.wait-duration-in-open-state=500ms",
+        "resilience4j.circuitbreaker.configs.default.permitted-number-of-calls-in-half-open-state=1",
+        "resilience4j.bulkhead.instances.users.max-concurrent-calls=2"
+})
+@AutoConfigureMockMvc
+@DisplayName("Gateway bulkhead and circuit breaker tests against a stub server")
+class ResilienceInterceptorTest {
+    private static final HttpServer STUB_SERVER = startStubServer();
+    private static final AtomicInteger USER_CALLS = new AtomicInteger();
+    private static volatile int userStatus;
+    private static volatile long userDelayMillis;
+    private static volatile CountDownLatch userLatch;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @DynamicPropertySource
+    static void serverUrl(DynamicPropertyRegistry registry) {
+        registry.add("shareit-server.url", () -> "http://localhost:" + STUB_SERVER.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        STUB_SERVER.stop(0);
+    }
+
+    @BeforeEach
+    void setUp() {
+        circuitBreakerRegistry.getAllCircuitBreakers().forEach(CircuitBreaker::reset);
+        USER_CALLS.set(0);
+        userStatus = 200;
+        userDelayMillis = 0;
+        userLatch = new CountDownLatch(0);
+    }
+
+    @Test
+    void failingServer_OpensBreakerAndFailsFast() throws Exception {
+        userStatus = 500;
+        for (int i = 0; i < 4; i++) {
+            mockMvc.perform(get("/users/1")).andExpect(status().isInternalServerError());
+        }
+
+        mockMvc.perform(get("/users/1"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.error").value("Service Unavailable"));
+
+        assertThat(USER_CALLS).hasValue(4);
+        assertThat(circuitBreakerRegistry.circuitBreaker("users").getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        mockMvc.perform(get("/items/1").header("X-Sharer-User-Id", 1)).andExpect(status().isOk());
+    }
+
+    @Test
+    void openBreaker_HalfOpenProbeSucceeds_Closes() throws Exception {
+        userStatus = 500;
+        for (int i = 0; i < 4; i++) {
+            mockMvc.perform(get("/users/1"));
+        }
+        mockMvc.perform(get("/users/1")).andExpect(status().isServiceUnavailable());
+
+        userStatus = 200;
+        Thread.sleep(600);
+        mockMvc.perform(get("/users/1")).andExpect(status().isOk());
+
+        assertThat(circuitBreakerRegistry.circuitBreaker("users").getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void slowServer_OpensBreaker() throws Exception {
+        userDelayMillis = 400;
+        for (int i = 0; i < 4; i++) {
+            mockMvc.perform(get("/users/1")).andExpect(status().isOk());
+        }
+
+        mockMvc.perform(get("/users/1")).andExpect(status().isServiceUnavailable());
+        assertThat(USER_CALLS).hasValue(4);
+    }
+
+    @Test
+    void saturatedBulkhead_RejectsOnlyThatClient() throws Exception {
+        userLatch = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<MvcResult> first = executor.submit(() -> mockMvc.perform(get("/users/1")).andReturn());
+            Future<MvcResult> second = executor.submit(() -> mockMvc.perform(get("/users/2")).andReturn());
+            while (USER_CALLS.get() < 2) {
+                Thread.sleep(10);
+            }
+
+            mockMvc.perform(get("/users/3")).andExpect(status().isServiceUnavailable());
+            mockMvc.perform(get("/items/1").header("X-Sharer-User-Id", 1)).andExpect(status().isOk());
+
+            userLatch.countDown();
+            assertThat(first.get().getResponse().getStatus()).isEqualTo(200);
+            assertThat(second.get().getResponse().getStatus()).isEqualTo(200);
+        }
+        mockMvc.perform(get("/users/3")).andExpect(status().isOk());
+    }
+
+    private static HttpServer startStubServer() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/users", exchange -> {
+                USER_CALLS.incrementAndGet();
+                try {
+                    userLatch.await(5, TimeUnit.SECONDS);
+                    Thread.sleep(userDelayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                respond(exchange, userStatus, "{\"id\":1,\"name\":\"User\",\"email\":\"user@example.com\"}");
+            });
+            server.createContext("/items", exchange -> respond(exchange, 200, "{\"id\":1}"));
+            server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (var out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
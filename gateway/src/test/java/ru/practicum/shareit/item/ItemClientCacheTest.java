@@ -0,0 +1,149 @@
+package ru.practicum.shareit.item;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.cache.CacheType;
+import org.springframework.boot.test.autoconfigure.core.AutoConfigureCache;
+import org.springframework.boot.test.autoconfigure.web.client.RestClientTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import ru.practicum.shareit.client.ResponseCacheConfig;
+import ru.practicum.shareit.item.dto.CommentCreateDto;
+import ru.practicum.shareit.item.dto.ItemUpdateDto;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
+
+@RestClientTest(ItemClient.class)
+@AutoConfigureCache(cacheProvider = CacheType.CAFFEINE)
+@Import(ResponseCacheConfig.class)
+@DisplayName("ItemClient response cache tests (gateway module)")
+class ItemClientCacheTest {
+
+    @Autowired
+    private ItemClient itemClient;
+
+    @Autowired
+    private MockRestServiceServer server;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockBean
+    private ClientHttpRequestFactory shareitServerRequestFactory;
+
+    @AfterEach
+    void tearDown() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void getItemById_SameUser_ServedFromCache() {
+        server.expect(ExpectedCount.once(), requestTo("http://localhost:9090/items/1"))
+                .andExpect(header("X-Sharer-User-Id", "1"))
+                .andRespond(withSuccess("{\"id\":1}", MediaType.APPLICATION_JSON));
+
+        ResponseEntity<Object> first = itemClient.getItemById(1L, 1L);
+        ResponseEntity<Object> second = itemClient.getItemById(1L, 1L);
+
+        server.verify();
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat((byte[]) second.getBody()).isEqualTo((byte[]) first.getBody());
+    }
+
+    @Test
+    void getItemById_DifferentUsers_CachedSeparately() {
+        server.expect(ExpectedCount.once(), requestTo("http://localhost:9090/items/1"))
+                .andExpect(header("X-Sharer-User-Id", "1"))
+                .andRespond(withSuccess("{\"id\":1,\"lastBooking\":{\"id\":5}}", MediaType.APPLICATION_JSON));
+        server.expect(ExpectedCount.once(), requestTo("http://localhost:9090/items/1"))
+                .andExpect(header("X-Sharer-User-Id", "2"))
+                .andRespond(withSuccess("{\"id\":1}", MediaType.APPLICATION_JSON));
+
+        itemClient.getItemById(1L, 1L);
+        ResponseEntity<Object> otherUser = itemClient.getItemById(2L, 1L);
+        itemClient.getItemById(2L, 1L);
+
+        server.verify();
+        assertThat(new String((byte[]) otherUser.getBody())).isEqualTo("{\"id\":1}");
+    }
+
+    @Test
+    void getItemById_ErrorResponse_NotCached() {
+        server.expect(ExpectedCount.twice(), requestTo("http://localhost:9090/items/1"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+
+        itemClient.getItemById(1L, 1L);
+        ResponseEntity<Object> response = itemClient.getItemById(1L, 1L);
+
+        server.verify();
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void searchItems_WithWindow_NotCached() {
+        server.expect(ExpectedCount.twice(), requestTo(
+                        "http://localhost:9090/items/search?text=drill&start=2030-01-05T10%3A00&end=2030-01-05T14%3A00"))
+                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+        LocalDateTime start = LocalDateTime.of(2030, 1, 5, 10, 0);
+
+        itemClient.searchItems("drill", start, start.plusHours(4));
+        itemClient.searchItems("drill", start, start.plusHours(4));
+
+        server.verify();
+    }
+
+    @Test
+    void updateItem_EvictsItemsAndSearch() {
+        server.expect(ExpectedCount.once(), requestTo("http://localhost:9090/items/1"))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess("{\"id\":1}", MediaType.APPLICATION_JSON));
+        server.expect(ExpectedCount.once(), requestTo("http://localhost:9090/items/search?text=drill"))
+                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+        server.expect(ExpectedCount.once(), requestTo("http://localhost:9090/items/1"))
+                .andExpect(method(HttpMethod.PATCH))
+                .andRespond(withSuccess("{\"id\":1}", MediaType.APPLICATION_JSON));
+        server.expect(ExpectedCount.once(), requestTo("http://localhost:9090/items/1"))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess("{\"id\":1}", MediaType.APPLICATION_JSON));
+        server.expect(ExpectedCount.once(), requestTo("http://localhost:9090/items/search?text=drill"))
+                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+
+        itemClient.getItemById(1L, 1L);
+        itemClient.searchItems("drill");
+        itemClient.updateItem(1L, 1L, ItemUpdateDto.builder().name("Drill").build());
+        itemClient.getItemById(1L, 1L);
+        itemClient.searchItems("drill");
+
+        server.verify();
+    }
+
+    @Test
+    void addComment_EvictsItems() {
+        server.expect(ExpectedCount.once(), requestTo("http://localhost:9090/items/1"))
+                .andRespond(withSuccess("{\"id\":1}", MediaType.APPLICATION_JSON));
+        server.expect(ExpectedCount.once(), requestTo("http://localhost:9090/items/1/comment"))
+                .andRespond(withSuccess("{\"id\":1}", MediaType.APPLICATION_JSON));
+        server.expect(ExpectedCount.once(), requestTo("http://localhost:9090/items/1"))
+                .andRespond(withSuccess("{\"id\":1,\"comments\":[{\"id\":1}]}", MediaType.APPLICATION_JSON));
+
+        itemClient.getItemById(1L, 1L);
+        itemClient.addComment(2L, 1L, CommentCreateDto.builder().text("Great").build());
+        itemClient.getItemById(1L, 1L);
+
+        server.verify();
+    }
+}
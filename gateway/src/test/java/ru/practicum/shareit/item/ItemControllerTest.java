@@ -15,6 +15,9 @@ import ru.practicum.shareit.item.dto.CommentCreateDto;
 import ru.practicum.shareit.item.dto.ItemCreateDto;
 import ru.practicum.shareit.item.dto.ItemUpdateDto;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -274,4 +277,42 @@ class ItemControllerTest {
                         .content(objectMapper.writeValueAsString(commentCreateDto)))
                 .andExpect(status().isBadRequest());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getAvailability_ValidWindow_ForwardsParsedParameters() throws Exception {
+        LocalDateTime from = LocalDateTime.of(2030, 1, 1, 0, 0);
+        when(itemClient.getAvailability(1L, from, from.plusDays(1), Duration.ofHours(1)))
+                .thenReturn(ResponseEntity.ok("{\"slots\":24}"));
+
+        mockMvc.perform(get("/items/1/availability")
+                        .param("from", "2030-01-01T00:00:00")
+                        .param("to", "2030-01-02T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("{\"slots\":24}"));
+    }
+
+    @Test
+    void getAvailability_MalformedDate_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/items/1/availability")
+                        .param("from", "tomorrow")
+                        .param("to", "2030-01-02T00:00:00"))
+                .andExpect(status().isBadRequest());
+
+        verify(itemClient, never()).getAvailability(anyLong(), any(), any(), any());
+    }
+
+    @Test
+    void searchItems_WithWindow_ForwardsWindow() throws Exception {
+        LocalDateTime start = LocalDateTime.of(2030, 1, 5, 10, 0);
+        when(itemClient.searchItems("drill", start, start.plusHours(4)))
+                .thenReturn(ResponseEntity.ok("[]"));
+
+        mockMvc.perform(get("/items/search")
+                        .param("text", "drill")
+                        .param("start", "2030-01-05T10:00:00")
+                        .param("end", "2030-01-05T14:00:00"))
+                .andExpect(status().isOk());
+
+        verify(itemClient, never()).searchItems(anyString());
+    }
+}
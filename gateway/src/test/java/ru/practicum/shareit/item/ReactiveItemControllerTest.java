@@ -0,0 +1,160 @@
+package ru.practicum.shareit.item;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.item.dto.CommentCreateDto;
+import ru.practicum.shareit.item.dto.ItemCreateDto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@WebFluxTest(controllers = ReactiveItemController.class, properties = "spring.main.web-application-type=reactive")
+@DisplayName("ReactiveItemController tests (gateway module)")
+class ReactiveItemControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ReactiveItemClient itemClient;
+
+    private ItemCreateDto itemCreateDto;
+
+    @BeforeEach
+    void setUp() {
+        itemCreateDto = ItemCreateDto.builder()
+                .name("Test Item")
+                .description("Test Description")
+                .available(true)
+                .build();
+    }
+
+    @Test
+    void addItem_ValidData_ReturnsServerResponse() {
+        when(itemClient.addItem(anyLong(), any(ItemCreateDto.class)))
+                .thenReturn(serverResponse("{\"id\":1}"));
+
+        webTestClient.post().uri("/items")
+                .header("X-Sharer-User-Id", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(itemCreateDto)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody(String.class).isEqualTo("{\"id\":1}");
+    }
+
+    @Test
+    void addItem_InvalidUserId_ReturnsBadRequest() {
+        webTestClient.post().uri("/items")
+                .header("X-Sharer-User-Id", "0")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(itemCreateDto)
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verify(itemClient, never()).addItem(anyLong(), any(ItemCreateDto.class));
+    }
+
+    @Test
+    void addItem_MissingUserId_ReturnsBadRequest() {
+        webTestClient.post().uri("/items")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(itemCreateDto)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void addItem_InvalidItemData_ReturnsBadRequestWithDetails() {
+        ItemCreateDto invalidItem = ItemCreateDto.builder()
+                .name("")
+                .description("")
+                .available(null)
+                .build();
+
+        webTestClient.post().uri("/items")
+                .header("X-Sharer-User-Id", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(invalidItem)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.details.name").isEqualTo("Name cannot be empty")
+                .jsonPath("$.details.available").isEqualTo("Available cannot be null");
+    }
+
+    @Test
+    void getItemById_InvalidIds_ReturnsBadRequest() {
+        webTestClient.get().uri("/items/0")
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void search_EmptyText_ReturnsEmptyList() {
+        webTestClient.get().uri("/items/search?text= ")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$").isEmpty();
+
+        verify(itemClient, never()).searchItems(anyString());
+    }
+
+    @Test
+    void addComment_InvalidData_ReturnsBadRequest() {
+        webTestClient.post().uri("/items/1/comment")
+                .header("X-Sharer-User-Id", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(CommentCreateDto.builder().text("").build())
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void searchItems_WithWindow_ForwardsWindow() {
+        LocalDateTime start = LocalDateTime.of(2030, 1, 5, 10, 0);
+        when(itemClient.searchItems("drill", start, start.plusHours(4)))
+                .thenReturn(serverResponse("[{\"id\":1}]"));
+
+        webTestClient.get().uri("/items/search?text=drill&start=2030-01-05T10:00:00&end=2030-01-05T14:00:00")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$[0].id").isEqualTo(1);
+    }
+
+    @Test
+    void getAvailability_ValidWindow_ForwardsParsedParameters() {
+        LocalDateTime from = LocalDateTime.of(2030, 1, 1, 0, 0);
+        when(itemClient.getAvailability(1L, from, from.plusDays(1), Duration.ofMinutes(30)))
+                .thenReturn(serverResponse("{\"slots\":48}"));
+
+        webTestClient.get().uri("/items/1/availability?from=2030-01-01T00:00:00&to=2030-01-02T00:00:00&granularity=PT30M")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("{\"slots\":48}");
+    }
+
+    private static Mono<ResponseEntity<Flux<DataBuffer>>> serverResponse(String json) {
+        DataBuffer body = DefaultDataBufferFactory.sharedInstance.wrap(json.getBytes(StandardCharsets.UTF_8));
+        return Mono.just(ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Flux.just(body)));
+    }
+}
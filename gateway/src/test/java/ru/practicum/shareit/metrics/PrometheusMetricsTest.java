@@ -0,0 +1,111 @@
+package ru.practicum.shareit.metrics;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@DisplayName("Gateway Prometheus metrics tests")
+class PrometheusMetricsTest {
+    private static final byte[] USER_JSON = "{\"id\":1,\"name\":\"User\"}".getBytes(StandardCharsets.UTF_8);
+    private static final WebServer SERVER = startStubServer();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @DynamicPropertySource
+    static void serverUrl(DynamicPropertyRegistry registry) {
+        registry.add("shareit-server.url", () -> "http://localhost:" + SERVER.getPort());
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        SERVER.stop();
+    }
+
+    @Test
+    void prometheus_ExposesRouteAndUpstreamLatencyPerClient() throws Exception {
+        mockMvc.perform(get("/users/{userId}", 1)).andExpect(status().isOk());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThat(scrape)
+                .containsPattern("http_server_requests_seconds_bucket\\{[^}]*method=\"GET\"[^}]*"
+                        + "uri=\"/users/\\{userId}\",le=\"0\\.001\"}")
+                .containsPattern("shareit_server_client_requests_seconds_bucket\\{client=\"UserClient\","
+                        + "exception=\"none\",method=\"GET\",status=\"200\",le=\"0\\.001\"}")
+                .containsPattern("http_server_response_size_bytes_sum\\{encoding=\"identity\",method=\"GET\","
+                        + "status=\"200\",uri=\"/users/\\{userId}\"} " + USER_JSON.length);
+    }
+
+    @Test
+    void prometheus_GzipPassedThrough_ResponseSizeTaggedCompressed() throws Exception {
+        byte[] gzipped = mockMvc.perform(get("/users/{userId}", 2).header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThat(scrape).containsPattern("http_server_response_size_bytes_sum\\{encoding=\"gzip\",method=\"GET\","
+                + "status=\"200\",uri=\"/users/\\{userId}\"} " + gzipped.length);
+    }
+
+    private static WebServer startStubServer() {
+        WebServer server = new TomcatServletWebServerFactory(0).getWebServer(servletContext -> servletContext
+                .addServlet("users", new HttpServlet() {
+                    @Override
+                    protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                        byte[] body = USER_JSON;
+                        if (request.getRequestURI().endsWith("/2")) {
+                            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+                            try (GZIPOutputStream deflater = new GZIPOutputStream(compressed)) {
+                                deflater.write(body);
+                            }
+                            body = compressed.toByteArray();
+                            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+                        }
+                        response.setContentType("application/json");
+                        response.setContentLength(body.length);
+                        response.getOutputStream().write(body);
+                    }
+                })
+                .addMapping("/users/*"));
+        server.start();
+        return server;
+    }
+}
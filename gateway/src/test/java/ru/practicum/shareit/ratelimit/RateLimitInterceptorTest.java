@@ -0,0 +1,58 @@
+package ru.practicum.shareit.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.user.UserClient;
+import ru.practicum.shareit.user.UserController;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = UserController.class, properties = {
+        "shareit-gateway.rate-limit.default-limit.capacity=2",
+        "shareit-gateway.rate-limit.default-limit.refill-per-second=0.5"
+})
+@DisplayName("RateLimitInterceptor tests (gateway module)")
+class RateLimitInterceptorTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private UserClient userClient;
+
+    @Test
+    void exceedingLimit_ReturnsTooManyRequestsWithRetryAfter() throws Exception {
+        when(userClient.getUserById(anyLong())).thenReturn(new ResponseEntity<>("User", HttpStatus.OK));
+
+        mockMvc.perform(get("/users/1").header("X-Sharer-User-Id", 10L)).andExpect(status().isOk());
+        mockMvc.perform(get("/users/2").header("X-Sharer-User-Id", 10L)).andExpect(status().isOk());
+
+        mockMvc.perform(get("/users/3").header("X-Sharer-User-Id", 10L))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "2"))
+                .andExpect(jsonPath("$.error").value("Too Many Requests"));
+
+        mockMvc.perform(get("/users/3").header("X-Sharer-User-Id", 11L)).andExpect(status().isOk());
+        verify(userClient, times(3)).getUserById(anyLong());
+    }
+
+    @Test
+    void malformedUserIds_ShareRemoteAddressBucket() throws Exception {
+        when(userClient.getUserById(anyLong())).thenReturn(new ResponseEntity<>("User", HttpStatus.OK));
+
+        mockMvc.perform(get("/users/1").header("X-Sharer-User-Id", "abc")).andExpect(status().isOk());
+        mockMvc.perform(get("/users/1").header("X-Sharer-User-Id", "-7")).andExpect(status().isOk());
+
+        mockMvc.perform(get("/users/1").header("X-Sharer-User-Id", "0"))
+                .andExpect(status().isTooManyRequests());
+    }
+}
@@ -0,0 +1,68 @@
+package ru.practicum.shareit.ratelimit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of {@link RateLimiter#tryAcquire} on all available cores, both when every thread
+ * hits its own users and when all threads contend on one user's bucket.
+ * Run with {@code mvn -pl gateway test -Pbenchmark -Dtest=RateLimiterBenchmark}.
+ */
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(Threads.MAX)
+@Fork(1)
+public class RateLimiterBenchmark {
+    private static final String ROUTE = "GET /items/search";
+    private static final int USERS = 10_000;
+
+    private RateLimiter rateLimiter;
+    private String[] users;
+
+    @Setup
+    public void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getDefaultLimit().setCapacity(Integer.MAX_VALUE / 2);
+        properties.getDefaultLimit().setRefillPerSecond(1_000_000_000);
+        rateLimiter = new RateLimiter(properties);
+        users = new String[USERS];
+        for (int i = 0; i < USERS; i++) {
+            users[i] = String.valueOf(i + 1);
+            rateLimiter.tryAcquire(ROUTE, users[i]);
+        }
+    }
+
+    @Benchmark
+    public long distinctUsers() {
+        return rateLimiter.tryAcquire(ROUTE, users[ThreadLocalRandom.current().nextInt(USERS)]);
+    }
+
+    @Benchmark
+    public long sameUser() {
+        return rateLimiter.tryAcquire(ROUTE, users[0]);
+    }
+
+    @Benchmark
+    public int baseline() {
+        return users[ThreadLocalRandom.current().nextInt(USERS)].hashCode();
+    }
+
+    @Test
+    void run() throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(getClass().getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,130 @@
+package ru.practicum.shareit.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RateLimiter unit tests")
+class RateLimiterTest {
+    private static final String SEARCH = "GET /items/search";
+    private static final String USER = "GET /users/{userId}";
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getDefaultLimit().setCapacity(5);
+        properties.getDefaultLimit().setRefillPerSecond(5);
+        RateLimitProperties.RouteLimit search = new RateLimitProperties.RouteLimit();
+        search.setMethod("get");
+        search.setPath("/items/search");
+        search.setCapacity(2);
+        search.setRefillPerSecond(1);
+        properties.setRoutes(List.of(search));
+        rateLimiter = new RateLimiter(properties, clock::get);
+    }
+
+    @Test
+    void tryAcquire_WithinCapacity_Allowed() {
+        assertThat(rateLimiter.tryAcquire(SEARCH, "1")).isZero();
+        assertThat(rateLimiter.tryAcquire(SEARCH, "1")).isZero();
+    }
+
+    @Test
+    void tryAcquire_CapacityExhausted_ReturnsWaitUntilNextToken() {
+        rateLimiter.tryAcquire(SEARCH, "1");
+        rateLimiter.tryAcquire(SEARCH, "1");
+
+        assertThat(rateLimiter.tryAcquire(SEARCH, "1")).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(400));
+        assertThat(rateLimiter.tryAcquire(SEARCH, "1")).isEqualTo(TimeUnit.MILLISECONDS.toNanos(600));
+    }
+
+    @Test
+    void tryAcquire_AfterRefill_AllowedAgain() {
+        rateLimiter.tryAcquire(SEARCH, "1");
+        rateLimiter.tryAcquire(SEARCH, "1");
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        assertThat(rateLimiter.tryAcquire(SEARCH, "1")).isZero();
+        assertThat(rateLimiter.tryAcquire(SEARCH, "1")).isPositive();
+    }
+
+    @Test
+    void tryAcquire_DifferentUsersAndRoutes_SeparateBuckets() {
+        rateLimiter.tryAcquire(SEARCH, "1");
+        rateLimiter.tryAcquire(SEARCH, "1");
+
+        assertThat(rateLimiter.tryAcquire(SEARCH, "1")).isPositive();
+        assertThat(rateLimiter.tryAcquire(SEARCH, "2")).isZero();
+        for (int i = 0; i < 5; i++) {
+            assertThat(rateLimiter.tryAcquire(USER, "1")).isZero();
+        }
+        assertThat(rateLimiter.tryAcquire(USER, "1")).isPositive();
+    }
+
+    @Test
+    void evictIdleBuckets_RemovesOnlyRefilledBuckets() {
+        rateLimiter.tryAcquire(SEARCH, "1");
+        rateLimiter.tryAcquire(USER, "2");
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+
+        rateLimiter.evictIdleBuckets();
+
+        assertThat(rateLimiter.bucketCount()).isEqualTo(1);
+        rateLimiter.tryAcquire(SEARCH, "1");
+        assertThat(rateLimiter.tryAcquire(SEARCH, "1")).isPositive();
+    }
+
+    @Test
+    void tryAcquire_ManyDistinctClients_KeepsBucketCountBounded() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setMaxBuckets(100);
+        RateLimiter bounded = new RateLimiter(properties, clock::get);
+
+        for (int i = 0; i < 10_000; i++) {
+            bounded.tryAcquire(USER, "client-" + i);
+        }
+
+        assertThat(bounded.bucketCount()).isLessThanOrEqualTo(100);
+    }
+
+    @Test
+    void tryAcquire_BucketUnusedPastIdleExpiry_Expires() {
+        rateLimiter.tryAcquire(SEARCH, "1");
+        rateLimiter.tryAcquire(SEARCH, "1");
+
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(11));
+
+        assertThat(rateLimiter.bucketCount()).isZero();
+    }
+
+    @Test
+    void tryAcquire_ConcurrentCallers_NeverExceedCapacity() throws InterruptedException {
+        AtomicInteger allowed = new AtomicInteger();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 1000; i++) {
+                executor.execute(() -> {
+                    if (rateLimiter.tryAcquire(USER, "1") == 0) {
+                        allowed.incrementAndGet();
+                    }
+                });
+            }
+        }
+
+        assertThat(allowed).hasValue(5);
+    }
+}
@@ -0,0 +1,95 @@
+package ru.practicum.shareit.request;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@WebFluxTest(controllers = ReactiveRequestController.class, properties = "spring.main.web-application-type=reactive")
+@DisplayName("ReactiveRequestController tests (gateway module)")
+class ReactiveRequestControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ReactiveRequestClient requestClient;
+
+    @Test
+    void createRequest_ValidData_ReturnsServerResponse() {
+        when(requestClient.createRequest(anyLong(), any(ItemRequestDto.class)))
+                .thenReturn(serverResponse("{\"id\":1,\"description\":\"Need a drill\"}"));
+
+        webTestClient.post().uri("/requests")
+                .header("X-Sharer-User-Id", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new ItemRequestDto("Need a drill"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("{\"id\":1,\"description\":\"Need a drill\"}");
+    }
+
+    @Test
+    void createRequest_BlankDescription_ReturnsBadRequest() {
+        webTestClient.post().uri("/requests")
+                .header("X-Sharer-User-Id", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new ItemRequestDto(""))
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verify(requestClient, never()).createRequest(anyLong(), any(ItemRequestDto.class));
+    }
+
+    @Test
+    void getAllRequests_PassesPagingParameters() {
+        when(requestClient.getAllRequests(1L, 20, 5)).thenReturn(serverResponse("[]"));
+
+        webTestClient.get().uri("/requests/all?from=20&size=5")
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("[]");
+    }
+
+    @Test
+    void getAllRequests_NegativeFrom_ReturnsBadRequest() {
+        webTestClient.get().uri("/requests/all?from=-1")
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verify(requestClient, never()).getAllRequests(anyLong(), anyInt(), anyInt());
+    }
+
+    @Test
+    void getRequestById_InvalidRequestId_ReturnsBadRequest() {
+        webTestClient.get().uri("/requests/0")
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verify(requestClient, never()).getRequestById(anyLong(), anyLong());
+    }
+
+    private static Mono<ResponseEntity<Flux<DataBuffer>>> serverResponse(String json) {
+        DataBuffer body = DefaultDataBufferFactory.sharedInstance.wrap(json.getBytes(StandardCharsets.UTF_8));
+        return Mono.just(ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Flux.just(body)));
+    }
+}
@@ -0,0 +1,100 @@
+package ru.practicum.shareit.user;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.user.dto.UserCreateDto;
+import ru.practicum.shareit.user.dto.UserUpdateDto;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@WebFluxTest(controllers = ReactiveUserController.class, properties = "spring.main.web-application-type=reactive")
+@DisplayName("ReactiveUserController tests (gateway module)")
+class ReactiveUserControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ReactiveUserClient userClient;
+
+    @Test
+    void create_ValidData_ReturnsServerResponse() {
+        when(userClient.createUser(any(UserCreateDto.class)))
+                .thenReturn(serverResponse("{\"id\":1,\"name\":\"User\"}"));
+
+        webTestClient.post().uri("/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new UserCreateDto("User", "user@example.com"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("{\"id\":1,\"name\":\"User\"}");
+    }
+
+    @Test
+    void create_InvalidEmail_ReturnsBadRequest() {
+        webTestClient.post().uri("/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new UserCreateDto("User", "not-an-email"))
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verify(userClient, never()).createUser(any(UserCreateDto.class));
+    }
+
+    @Test
+    void update_InvalidUserId_ReturnsBadRequest() {
+        webTestClient.patch().uri("/users/0")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"name\":\"New\"}")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verify(userClient, never()).updateUser(anyLong(), any(UserUpdateDto.class));
+    }
+
+    @Test
+    void getById_ServerNotFound_PassesStatusThrough() {
+        DataBuffer body = DefaultDataBufferFactory.sharedInstance
+                .wrap("{\"error\":\"Not Found\"}".getBytes(StandardCharsets.UTF_8));
+        when(userClient.getUserById(9L)).thenReturn(Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Flux.just(body))));
+
+        webTestClient.get().uri("/users/9")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody(String.class).isEqualTo("{\"error\":\"Not Found\"}");
+    }
+
+    @Test
+    void delete_ValidUserId_ReturnsServerResponse() {
+        when(userClient.deleteUser(1L)).thenReturn(Mono.just(ResponseEntity.ok().<Flux<DataBuffer>>build()));
+
+        webTestClient.delete().uri("/users/1")
+                .exchange()
+                .expectStatus().isOk();
+
+        verify(userClient).deleteUser(1L);
+    }
+
+    private static Mono<ResponseEntity<Flux<DataBuffer>>> serverResponse(String json) {
+        DataBuffer body = DefaultDataBufferFactory.sharedInstance.wrap(json.getBytes(StandardCharsets.UTF_8));
+        return Mono.just(ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Flux.just(body)));
+    }
+}
@@ -2,7 +2,11 @@ package ru.practicum.shareit.booking;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.booking.dto.BookingDecisionDto;
+import ru.practicum.shareit.booking.dto.BookingDecisionResultDto;
+import ru.practicum.shareit.booking.dto.BookingPage;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.model.State;
@@ -16,6 +20,9 @@ import java.util.List;
 @RequestMapping(path = "/bookings")
 @RequiredArgsConstructor
 public class BookingController {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
     private final BookingService bookingService;
 
     @PostMapping
@@ -37,6 +44,15 @@ public class BookingController {
         return bookingService.updateStatus(userId, bookingId, approved);
     }
 
+    @PatchMapping
+    public List<BookingDecisionResultDto> decide(
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            @RequestBody List<BookingDecisionDto> decisions
+    ) {
+        log.info("Server: PATCH /bookings - {} decisions by user {}", decisions.size(), userId);
+        return bookingService.decideBookings(userId, decisions);
+    }
+
     @GetMapping("/{bookingId}")
     public BookingResponseDto getById(
             @RequestHeader("X-Sharer-User-Id") Long userId,
@@ -47,20 +63,36 @@ public class BookingController {
     }
 
     @GetMapping
-    public List<BookingResponseDto> getBookingsByBooker(
+    public ResponseEntity<List<BookingResponseDto>> getBookingsByBooker(
             @RequestHeader("X-Sharer-User-Id")  Long userId,
-            @RequestParam(defaultValue = "ALL") State state
+            @RequestParam(defaultValue = "ALL") State state,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
     ) {
-        log.info("Server: GET /bookings/{} - by user {}", state, userId);
-        return bookingService.getBookingsByBooker(userId, state);
+        log.info("Server: GET /bookings/{} - by user {}, cursor={}, size={}", state, userId, cursor, size);
+        return toResponse(bookingService.getBookingsByBooker(userId, state, cursor, pageSize(size)));
     }
 
     @GetMapping("/owner")
-    public List<BookingResponseDto> getBookingsByOwner(
+    public ResponseEntity<List<BookingResponseDto>> getBookingsByOwner(
             @RequestHeader("X-Sharer-User-Id") Long userId,
-            @RequestParam(defaultValue = "ALL") State state
+            @RequestParam(defaultValue = "ALL") State state,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
     ) {
-        log.info("Server: GET /bookings/{} - by owner {}", state, userId);
-        return bookingService.getBookingsByOwner(userId, state);
+        log.info("Server: GET /bookings/{} - by owner {}, cursor={}, size={}", state, userId, cursor, size);
+        return toResponse(bookingService.getBookingsByOwner(userId, state, cursor, pageSize(size)));
+    }
+
+    private static int pageSize(Integer size) {
+        return size != null ? size : DEFAULT_PAGE_SIZE;
+    }
+
+    private static ResponseEntity<List<BookingResponseDto>> toResponse(BookingPage page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.bookings());
     }
 }
@@ -1,16 +1,23 @@
 package ru.practicum.shareit.booking.dal;
 
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.Status;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public interface BookingRepository extends JpaRepository<Booking, Long> {
     @Query("SELECT b FROM Booking b JOIN FETCH b.item i JOIN FETCH i.owner WHERE b.id = :bookingId")
@@ -18,100 +25,244 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
             @Param("bookingId") Long id
     );
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item WHERE b.id IN :bookingIds ORDER BY b.id")
+    List<Booking> findAllWithItemForUpdate(
+            @Param("bookingIds") Collection<Long> bookingIds
+    );
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Booking b SET b.status = :status WHERE b.id IN :bookingIds AND b.status = 'WAITING'")
+    int updateWaitingStatus(
+            @Param("bookingIds") Collection<Long> bookingIds,
+            @Param("status") Status status
+    );
+
     @Query("SELECT b FROM Booking b JOIN FETCH b.item i JOIN FETCH b.booker WHERE b.id = :bookingId")
     Optional<Booking> findByIdWithItemAndBooker(
             @Param("bookingId") Long id
     );
 
-    List<Booking> findAllByBookerId(
-            Long id
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item JOIN FETCH b.booker " +
+            "WHERE b.booker.id = :bookerId " +
+            "AND (b.start, b.id) < (:cursorStart, :cursorId) " +
+            "ORDER BY b.start DESC, b.id DESC")
+    List<Booking> findPageByBookerId(
+            @Param("bookerId") Long bookerId,
+            @Param("cursorStart") LocalDateTime cursorStart,
+            @Param("cursorId") Long cursorId,
+            Limit limit
     );
 
-    List<Booking> findAllByBookerIdAndStartBeforeAndEndAfter(
-            Long id, LocalDateTime start, LocalDateTime end
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item JOIN FETCH b.booker " +
+            "WHERE b.booker.id = :bookerId AND b.start < :now AND b.end > :now " +
+            "AND (b.start, b.id) < (:cursorStart, :cursorId) " +
+            "ORDER BY b.start DESC, b.id DESC")
+    List<Booking> findCurrentPageByBookerId(
+            @Param("bookerId") Long bookerId,
+            @Param("now") LocalDateTime now,
+            @Param("cursorStart") LocalDateTime cursorStart,
+            @Param("cursorId") Long cursorId,
+            Limit limit
     );
 
-    List<Booking> findAllByBookerIdAndEndBefore(
-            Long id, LocalDateTime end
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item JOIN FETCH b.booker " +
+            "WHERE b.booker.id = :bookerId AND b.end < :now " +
+            "AND (b.start, b.id) < (:cursorStart, :cursorId) " +
+            "ORDER BY b.start DESC, b.id DESC")
+    List<Booking> findPastPageByBookerId(
+            @Param("bookerId") Long bookerId,
+            @Param("now") LocalDateTime now,
+            @Param("cursorStart") LocalDateTime cursorStart,
+            @Param("cursorId") Long cursorId,
+            Limit limit
     );
 
-    List<Booking> findAllByBookerIdAndStartAfter(
-            Long id, LocalDateTime start
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item JOIN FETCH b.booker " +
+            "WHERE b.booker.id = :bookerId AND b.start > :now " +
+            "AND (b.start, b.id) < (:cursorStart, :cursorId) " +
+            "ORDER BY b.start DESC, b.id DESC")
+    List<Booking> findFuturePageByBookerId(
+            @Param("bookerId") Long bookerId,
+            @Param("now") LocalDateTime now,
+            @Param("cursorStart") LocalDateTime cursorStart,
+            @Param("cursorId") Long cursorId,
+            Limit limit
     );
 
-    List<Booking> findAllByBookerIdAndStatus(
-            Long id, Status  status
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item JOIN FETCH b.booker " +
+            "WHERE b.booker.id = :bookerId AND b.status = :status " +
+            "AND (b.start, b.id) < (:cursorStart, :cursorId) " +
+            "ORDER BY b.start DESC, b.id DESC")
+    List<Booking> findPageByBookerIdAndStatus(
+            @Param("bookerId") Long bookerId,
+            @Param("status") Status status,
+            @Param("cursorStart") LocalDateTime cursorStart,
+            @Param("cursorId") Long cursorId,
+            Limit limit
     );
 
-    @Query("SELECT b FROM Booking b JOIN b.item i WHERE i.owner.id = :ownerId")
-    List<Booking> findAllByOwnerId(
-            @Param("ownerId") Long ownerId
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item i JOIN FETCH b.booker " +
+            "WHERE i.owner.id = :ownerId " +
+            "AND (b.start, b.id) < (:cursorStart, :cursorId) " +
+            "ORDER BY b.start DESC, b.id DESC")
+    List<Booking> findPageByOwnerId(
+            @Param("ownerId") Long ownerId,
+            @Param("cursorStart") LocalDateTime cursorStart,
+            @Param("cursorId") Long cursorId,
+            Limit limit
     );
 
-    @Query("SELECT b FROM Booking b JOIN b.item i WHERE i.owner.id = :ownerId AND b.start <= :now AND b.end >= :now")
-    List<Booking> findAllByOwnerIdAndStartBeforeAndEndAfter(
-            @Param("ownerId") Long id,
-            @Param("now") LocalDateTime now
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item i JOIN FETCH b.booker " +
+            "WHERE i.owner.id = :ownerId AND b.start <= :now AND b.end >= :now " +
+            "AND (b.start, b.id) < (:cursorStart, :cursorId) " +
+            "ORDER BY b.start DESC, b.id DESC")
+    List<Booking> findCurrentPageByOwnerId(
+            @Param("ownerId") Long ownerId,
+            @Param("now") LocalDateTime now,
+            @Param("cursorStart") LocalDateTime cursorStart,
+            @Param("cursorId") Long cursorId,
+            Limit limit
     );
 
-    @Query("SELECT b FROM Booking b JOIN b.item i WHERE i.owner.id = :ownerId AND b.end < :end")
-    List<Booking> findAllByOwnerIdAndEndBefore(
-            @Param("ownerId") Long id,
-            @Param("end") LocalDateTime end
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item i JOIN FETCH b.booker " +
+            "WHERE i.owner.id = :ownerId AND b.end < :now " +
+            "AND (b.start, b.id) < (:cursorStart, :cursorId) " +
+            "ORDER BY b.start DESC, b.id DESC")
+    List<Booking> findPastPageByOwnerId(
+            @Param("ownerId") Long ownerId,
+            @Param("now") LocalDateTime now,
+            @Param("cursorStart") LocalDateTime cursorStart,
+            @Param("cursorId") Long cursorId,
+            Limit limit
     );
 
-    @Query("SELECT b FROM Booking b JOIN b.item i WHERE i.owner.id = :ownerId AND b.start > :start")
-    List<Booking> findAllByOwnerIdAndStartAfter(
-            @Param("ownerId") Long id,
-            @Param("start") LocalDateTime start
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item i JOIN FETCH b.booker " +
+            "WHERE i.owner.id = :ownerId AND b.start > :now " +
+            "AND (b.start, b.id) < (:cursorStart, :cursorId) " +
+            "ORDER BY b.start DESC, b.id DESC")
+    List<Booking> findFuturePageByOwnerId(
+            @Param("ownerId") Long ownerId,
+            @Param("now") LocalDateTime now,
+            @Param("cursorStart") LocalDateTime cursorStart,
+            @Param("cursorId") Long cursorId,
+            Limit limit
     );
 
-    @Query("SELECT b FROM Booking b JOIN b.item i WHERE i.owner.id = :ownerId AND b.status = :status")
-    List<Booking> findAllByOwnerIdAndStatus(
-            @Param("ownerId") Long id,
-            @Param("status") Status status
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item i JOIN FETCH b.booker " +
+            "WHERE i.owner.id = :ownerId AND b.status = :status " +
+            "AND (b.start, b.id) < (:cursorStart, :cursorId) " +
+            "ORDER BY b.start DESC, b.id DESC")
+    List<Booking> findPageByOwnerIdAndStatus(
+            @Param("ownerId") Long ownerId,
+            @Param("status") Status status,
+            @Param("cursorStart") LocalDateTime cursorStart,
+            @Param("cursorId") Long cursorId,
+            Limit limit
     );
 
     List<Booking> findByBookerIdAndItemIdAndEndBeforeAndStatus(
             Long bookerId, Long itemId, LocalDateTime end, Status status
     );
 
-    List<Booking> findByItemIdAndEndBeforeOrderByEndDesc(
-            Long itemId,
-            LocalDateTime end
+    Optional<Booking> findFirstByItemIdAndStatusAndStartBeforeOrderByStartDesc(
+            Long itemId, Status status, LocalDateTime start
     );
 
-    List<Booking> findByItemIdAndStartAfterOrderByStartAsc(
-            Long itemId, LocalDateTime now
+    /**
+     * WAITING and APPROVED bookings of an item never overlap each other, so ordered by start they are
+     * also ordered by end: only the latest one starting before {@code end} can reach past {@code start}.
+     * That makes the check one index seek per status instead of a scan of the item's history.
+     */
+    default boolean existsOverlappingBooking(Long itemId, LocalDateTime start, LocalDateTime end) {
+        return Stream.of(Status.WAITING, Status.APPROVED)
+                .map(status -> findFirstByItemIdAndStatusAndStartBeforeOrderByStartDesc(itemId, status, end))
+                .flatMap(Optional::stream)
+                .anyMatch(booking -> booking.getEnd().isAfter(start));
+    }
+
+    /**
+     * Items with an approved booking that goes away with the user: made by them or on an item they own.
+     */
+    @Query("SELECT DISTINCT b.item.id FROM Booking b " +
+            "WHERE b.status = 'APPROVED' AND (b.booker.id = :userId OR b.item.owner.id = :userId)")
+    List<Long> findApprovedItemIdsOfUser(@Param("userId") Long userId);
+
+    @Query("SELECT b.id FROM Booking b WHERE b.item.id = :itemId AND b.end < :now " +
+            "AND b.status = 'APPROVED' ORDER BY b.end DESC LIMIT 1")
+    Optional<Long> findLastBookingIdForItem(
+            @Param("itemId") Long itemId,
+            @Param("now") LocalDateTime now
     );
 
-    @Query("SELECT b FROM Booking b " +
-            "WHERE b.item.id IN :itemIds " +
-            "AND b.end < :now " +
-            "AND b.status = 'APPROVED' " +
-            "ORDER BY b.item.id, b.end DESC")
+    @Query("SELECT b.id FROM Booking b WHERE b.item.id = :itemId AND b.start > :now " +
+            "AND b.status = 'APPROVED' ORDER BY b.start ASC LIMIT 1")
+    Optional<Long> findNextBookingIdForItem(
+            @Param("itemId") Long itemId,
+            @Param("now") LocalDateTime now
+    );
+
+    @Query(value = "SELECT id, start_date, end_date, item_id, booker_id, status FROM (" +
+            "SELECT b.*, ROW_NUMBER() OVER (PARTITION BY b.item_id ORDER BY b.end_date DESC) AS rn " +
+            "FROM bookings b " +
+            "WHERE b.item_id IN (:itemIds) " +
+            "AND b.end_date < :now " +
+            "AND b.status = 'APPROVED') ranked " +
+            "WHERE rn = 1", nativeQuery = true)
     List<Booking> findLastBookingsForItems(
-            @Param("itemIds") List<Long> itemIds,
+            @Param("itemIds") Collection<Long> itemIds,
+            @Param("now") LocalDateTime now
+    );
+
+    @Query(value = "SELECT id, start_date, end_date, item_id, booker_id, status FROM (" +
+            "SELECT b.*, ROW_NUMBER() OVER (PARTITION BY b.item_id ORDER BY b.start_date ASC) AS rn " +
+            "FROM bookings b " +
+            "WHERE b.item_id IN (:itemIds) " +
+            "AND b.start_date > :now " +
+            "AND b.status = 'APPROVED') ranked " +
+            "WHERE rn = 1", nativeQuery = true)
+    List<Booking> findNextBookingsForItems(
+            @Param("itemIds") Collection<Long> itemIds,
             @Param("now") LocalDateTime now
     );
 
-    @Query("SELECT b FROM Booking b " +
+    @Query("SELECT new ru.practicum.shareit.booking.dal.BookingPeriod(b.start, b.end) " +
+            "FROM Booking b " +
+            "WHERE b.item.id = :itemId " +
+            "AND b.end > :from " +
+            "AND b.start < :to " +
+            "AND b.status = 'APPROVED' " +
+            "ORDER BY b.start")
+    List<BookingPeriod> findApprovedPeriods(
+            @Param("itemId") Long itemId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    @Query("SELECT new ru.practicum.shareit.booking.dal.ItemBookingEnd(b.item.id, MIN(b.end)) " +
+            "FROM Booking b " +
             "WHERE b.item.id IN :itemIds " +
-            "AND b.start > :now " +
+            "AND b.end >= :now " +
             "AND b.status = 'APPROVED' " +
-            "ORDER BY b.item.id, b.start ASC")
-    List<Booking> findNextBookingsForItems(
-            @Param("itemIds") List<Long> itemIds,
+            "GROUP BY b.item.id")
+    List<ItemBookingEnd> findEarliestApprovedEndsForItems(
+            @Param("itemIds") Collection<Long> itemIds,
             @Param("now") LocalDateTime now
     );
 
-    default Map<Long, List<Booking>> findLastBookingsForItems(List<Long> itemIds) {
-        List<Booking> bookings = findLastBookingsForItems(itemIds, LocalDateTime.now());
-        return bookings.stream().collect(Collectors.groupingBy(b -> b.getItem().getId()));
+    default Map<Long, Booking> findLastBookingsForItems(List<Long> itemIds) {
+        if (itemIds.isEmpty()) {
+            return Map.of();
+        }
+        return findLastBookingsForItems(itemIds, LocalDateTime.now()).stream()
+                .collect(Collectors.toMap(b -> b.getItem().getId(), Function.identity()));
     }
 
-    default Map<Long, List<Booking>> findNextBookingsForItems(List<Long> itemIds) {
-        List<Booking> bookings = findNextBookingsForItems(itemIds, LocalDateTime.now());
-        return bookings.stream().collect(Collectors.groupingBy(b -> b.getItem().getId()));
+    default Map<Long, Booking> findNextBookingsForItems(List<Long> itemIds) {
+        if (itemIds.isEmpty()) {
+            return Map.of();
+        }
+        return findNextBookingsForItems(itemIds, LocalDateTime.now()).stream()
+                .collect(Collectors.toMap(b -> b.getItem().getId(), Function.identity()));
     }
 }
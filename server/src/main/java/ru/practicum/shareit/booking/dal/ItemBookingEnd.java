@@ -0,0 +1,6 @@
+package ru.practicum.shareit.booking.dal;
+
+import java.time.LocalDateTime;
+
+public record ItemBookingEnd(Long itemId, LocalDateTime end) {
+}
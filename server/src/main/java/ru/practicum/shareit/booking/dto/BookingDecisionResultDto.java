@@ -0,0 +1,28 @@
+package ru.practicum.shareit.booking.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+import ru.practicum.shareit.booking.model.Status;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BookingDecisionResultDto {
+    Long bookingId;
+    Outcome outcome;
+    /**
+     * Status after the request; absent when the booking was not found or belongs to another owner.
+     */
+    Status status;
+
+    public enum Outcome {
+        APPLIED,
+        NOT_FOUND,
+        FORBIDDEN,
+        ALREADY_PROCESSED
+    }
+}
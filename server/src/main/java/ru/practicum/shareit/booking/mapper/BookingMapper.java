@@ -5,6 +5,7 @@ import org.mapstruct.Mapping;
 import ru.practicum.shareit.booking.dto.BookingForItemDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.model.BookingPointer;
 
 @Mapper(componentModel = "spring")
 public interface BookingMapper {
@@ -14,4 +15,7 @@ public interface BookingMapper {
 
     @Mapping(target = "bookerId", source = "booker.id")
     BookingForItemDto toBookingForItemDto(Booking booking);
+
+    @Mapping(target = "id", source = "bookingId")
+    BookingForItemDto toBookingForItemDto(BookingPointer pointer);
 }
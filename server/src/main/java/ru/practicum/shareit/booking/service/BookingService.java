@@ -1,5 +1,9 @@
 package ru.practicum.shareit.booking.service;
 
+import org.springframework.lang.Nullable;
+import ru.practicum.shareit.booking.dto.BookingDecisionDto;
+import ru.practicum.shareit.booking.dto.BookingDecisionResultDto;
+import ru.practicum.shareit.booking.dto.BookingPage;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.model.State;
@@ -12,9 +16,11 @@ public interface BookingService {
 
     BookingResponseDto updateStatus(Long bookerId, Long bookingId, Boolean approved) throws AccessDeniedException;
 
+    List<BookingDecisionResultDto> decideBookings(Long ownerId, List<BookingDecisionDto> decisions);
+
     BookingResponseDto getById(Long userId, Long bookingId) throws AccessDeniedException;
 
-    List<BookingResponseDto> getBookingsByBooker(Long bookerId, State state);
+    BookingPage getBookingsByBooker(Long bookerId, State state, @Nullable String cursor, int size);
 
-    List<BookingResponseDto> getBookingsByOwner(Long ownerId, State state);
+    BookingPage getBookingsByOwner(Long ownerId, State state, @Nullable String cursor, int size);
 }
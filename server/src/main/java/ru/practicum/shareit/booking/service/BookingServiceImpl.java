@@ -2,25 +2,40 @@ package ru.practicum.shareit.booking.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.dal.BookingRepository;
+import ru.practicum.shareit.booking.dto.BookingCursor;
+import ru.practicum.shareit.booking.dto.BookingDecisionDto;
+import ru.practicum.shareit.booking.dto.BookingDecisionResultDto;
+import ru.practicum.shareit.booking.dto.BookingPage;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.State;
 import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.error.exception.ConflictException;
 import ru.practicum.shareit.error.exception.NotFoundException;
+import ru.practicum.shareit.error.exception.ValidationException;
 import ru.practicum.shareit.item.dal.ItemRepository;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.BookingPointerService;
+import ru.practicum.shareit.item.service.ItemCalendarCache;
 import ru.practicum.shareit.user.dal.UserRepository;
 import ru.practicum.shareit.user.model.User;
 
 import java.nio.file.AccessDeniedException;
 import java.time.LocalDateTime;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -28,10 +43,14 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class BookingServiceImpl implements BookingService {
 
+    private static final int MAX_DECISIONS = 100;
+
     private final BookingRepository bookingRepository;
     private final UserRepository userRepository;
     private final ItemRepository itemRepository;
     private final BookingMapper bookingMapper;
+    private final BookingPointerService bookingPointerService;
+    private final ItemCalendarCache itemCalendarCache;
 
     @Override
     @Transactional
@@ -39,7 +58,8 @@ public class BookingServiceImpl implements BookingService {
         log.info("addBooking({}, {})", bookerId, bookingRequestDto);
 
         User booker = getUserOrThrow(bookerId);
-        Item item = itemRepository.findById(bookingRequestDto.getItemId())
+        // The row lock serializes bookings of one item, so two overlapping requests cannot both pass the check.
+        Item item = itemRepository.findWithLockById(bookingRequestDto.getItemId())
                 .orElseThrow(() -> new NotFoundException("Item", bookingRequestDto.getItemId()));
 
         if (item.getOwner().getId().equals(bookerId)) {
@@ -50,6 +70,11 @@ public class BookingServiceImpl implements BookingService {
             throw new IllegalArgumentException("Item is not available for booking");
         }
 
+        if (bookingRepository.existsOverlappingBooking(item.getId(),
+                bookingRequestDto.getStart(), bookingRequestDto.getEnd())) {
+            throw new ConflictException("Item is already booked for the requested period");
+        }
+
         Booking booking = Booking.builder()
                 .start(bookingRequestDto.getStart())
                 .end(bookingRequestDto.getEnd())
@@ -86,12 +111,79 @@ public class BookingServiceImpl implements BookingService {
             booking.setStatus(Status.REJECTED);
         }
 
-        Booking savedBooking = bookingRepository.save(booking);
+        Booking savedBooking = bookingRepository.saveAndFlush(booking);
+        if (approved) {
+            bookingPointerService.refresh(List.of(booking.getItem().getId()));
+            itemCalendarCache.invalidate(booking.getItem().getId());
+        }
 
         log.info("booking updated: {}", savedBooking);
         return bookingMapper.toBookingResponseDto(savedBooking);
     }
 
+    @Override
+    @Transactional
+    public List<BookingDecisionResultDto> decideBookings(Long ownerId, List<BookingDecisionDto> decisions) {
+        log.info("decideBookings({}, {} decisions)", ownerId, decisions.size());
+
+        if (decisions.size() > MAX_DECISIONS) {
+            throw new ValidationException("Cannot decide more than " + MAX_DECISIONS + " bookings at once");
+        }
+        if (decisions.stream().anyMatch(decision -> decision.getBookingId() == null || decision.getApproved() == null)) {
+            throw new ValidationException("Every decision needs a booking id and an approved flag");
+        }
+
+        Set<Long> bookingIds = decisions.stream()
+                .map(BookingDecisionDto::getBookingId)
+                .collect(Collectors.toSet());
+        Map<Long, Booking> bookings = bookingRepository.findAllWithItemForUpdate(bookingIds).stream()
+                .collect(Collectors.toMap(Booking::getId, Function.identity()));
+
+        Map<Long, Status> transitions = new LinkedHashMap<>();
+        List<BookingDecisionResultDto> results = new ArrayList<>(decisions.size());
+        for (BookingDecisionDto decision : decisions) {
+            Long bookingId = decision.getBookingId();
+            Booking booking = bookings.get(bookingId);
+            if (booking == null) {
+                results.add(decisionResult(bookingId, BookingDecisionResultDto.Outcome.NOT_FOUND, null));
+            } else if (!booking.getItem().getOwner().getId().equals(ownerId)) {
+                results.add(decisionResult(bookingId, BookingDecisionResultDto.Outcome.FORBIDDEN, null));
+            } else if (booking.getStatus() != Status.WAITING || transitions.containsKey(bookingId)) {
+                results.add(decisionResult(bookingId, BookingDecisionResultDto.Outcome.ALREADY_PROCESSED,
+                        transitions.getOrDefault(bookingId, booking.getStatus())));
+            } else {
+                Status status = decision.getApproved() ? Status.APPROVED : Status.REJECTED;
+                transitions.put(bookingId, status);
+                results.add(decisionResult(bookingId, BookingDecisionResultDto.Outcome.APPLIED, status));
+            }
+        }
+
+        List<Long> approvedItemIds = transitions.entrySet().stream()
+                .filter(transition -> transition.getValue() == Status.APPROVED)
+                .map(transition -> bookings.get(transition.getKey()).getItem().getId())
+                .distinct()
+                .toList();
+
+        // The rows are locked, so every conditional update must hit all of its bookings.
+        transitions.entrySet().stream()
+                .collect(Collectors.groupingBy(Map.Entry::getValue,
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())))
+                .forEach((status, ids) -> {
+                    int updated = bookingRepository.updateWaitingStatus(ids, status);
+                    if (updated != ids.size()) {
+                        throw new IllegalStateException("Expected to update " + ids.size() + " bookings, updated " + updated);
+                    }
+                });
+
+        if (!approvedItemIds.isEmpty()) {
+            bookingPointerService.refresh(approvedItemIds);
+            approvedItemIds.forEach(itemCalendarCache::invalidate);
+        }
+
+        log.info("bookings decided: {} of {} applied", transitions.size(), decisions.size());
+        return results;
+    }
+
     @Override
     public BookingResponseDto getById(Long bookingId, Long userId) throws AccessDeniedException {
         log.info("getById({}, {})", bookingId, userId);
@@ -110,81 +202,104 @@ public class BookingServiceImpl implements BookingService {
     }
 
     @Override
-    public List<BookingResponseDto> getBookingsByBooker(Long bookerId, State state) {
-        log.info("getBookingsByBooker({}, {})", bookerId, state);
+    public BookingPage getBookingsByBooker(Long bookerId, State state, @Nullable String cursor, int size) {
+        log.info("getBookingsByBooker({}, {}, {}, {})", bookerId, state, cursor, size);
 
         getUserOrThrow(bookerId);
 
-        List<Booking> bookings = getBookingByStateForBooker(bookerId, state);
-
-        bookings.sort(Comparator.comparing(Booking::getStart).reversed());
-
-        log.info("bookings size: {}", bookings.size());
-        return bookings.stream()
-                .map(bookingMapper::toBookingResponseDto)
-                .toList();
+        List<Booking> bookings = getBookingByStateForBooker(bookerId, state, BookingCursor.decode(cursor), pageLimit(size));
+        return toPage(bookings, size);
     }
 
     @Override
-    public List<BookingResponseDto> getBookingsByOwner(Long ownerId, State state) {
-        log.info("getBookingsByOwner({}, {})", ownerId, state);
+    public BookingPage getBookingsByOwner(Long ownerId, State state, @Nullable String cursor, int size) {
+        log.info("getBookingsByOwner({}, {}, {}, {})", ownerId, state, cursor, size);
 
         getUserOrThrow(ownerId);
 
-        List<Booking> bookings = getBookingByStateForOwner(ownerId, state);
-
-        bookings.sort(Comparator.comparing(Booking::getStart).reversed());
-
-        log.info("bookings size: {}", bookings.size());
-        return bookings.stream()
-                .map(bookingMapper::toBookingResponseDto)
-                .toList();
+        List<Booking> bookings = getBookingByStateForOwner(ownerId, state, BookingCursor.decode(cursor), pageLimit(size));
+        return toPage(bookings, size);
     }
 
-    private List<Booking> getBookingByStateForBooker(Long bookerId, State state) {
+    private List<Booking> getBookingByStateForBooker(Long bookerId, State state, BookingCursor cursor, Limit limit) {
 
         LocalDateTime now = LocalDateTime.now();
+        LocalDateTime start = cursor.start();
+        Long id = cursor.id();
 
         switch (state) {
             case ALL:
-                return bookingRepository.findAllByBookerId(bookerId);
+                return bookingRepository.findPageByBookerId(bookerId, start, id, limit);
             case CURRENT:
-                return bookingRepository.findAllByBookerIdAndStartBeforeAndEndAfter(bookerId, now, now);
+                return bookingRepository.findCurrentPageByBookerId(bookerId, now, start, id, limit);
             case PAST:
-                return bookingRepository.findAllByBookerIdAndEndBefore(bookerId, now);
+                return bookingRepository.findPastPageByBookerId(bookerId, now, start, id, limit);
             case FUTURE:
-                return bookingRepository.findAllByBookerIdAndStartAfter(bookerId, now);
+                return bookingRepository.findFuturePageByBookerId(bookerId, now, start, id, limit);
             case WAITING:
-                return bookingRepository.findAllByBookerIdAndStatus(bookerId, Status.WAITING);
+                return bookingRepository.findPageByBookerIdAndStatus(bookerId, Status.WAITING, start, id, limit);
             case REJECTED:
-                return bookingRepository.findAllByBookerIdAndStatus(bookerId, Status.REJECTED);
+                return bookingRepository.findPageByBookerIdAndStatus(bookerId, Status.REJECTED, start, id, limit);
             default:
                 throw new IllegalArgumentException("Invalid state!");
         }
     }
 
-    private List<Booking> getBookingByStateForOwner(Long ownerId, State state) {
+    private List<Booking> getBookingByStateForOwner(Long ownerId, State state, BookingCursor cursor, Limit limit) {
 
         LocalDateTime now = LocalDateTime.now();
+        LocalDateTime start = cursor.start();
+        Long id = cursor.id();
 
         switch (state) {
             case ALL:
-                return bookingRepository.findAllByOwnerId(ownerId);
+                return bookingRepository.findPageByOwnerId(ownerId, start, id, limit);
             case CURRENT:
-                return bookingRepository.findAllByOwnerIdAndStartBeforeAndEndAfter(ownerId, now);
+                return bookingRepository.findCurrentPageByOwnerId(ownerId, now, start, id, limit);
             case PAST:
-                return bookingRepository.findAllByOwnerIdAndEndBefore(ownerId, now);
+                return bookingRepository.findPastPageByOwnerId(ownerId, now, start, id, limit);
             case FUTURE:
-                return bookingRepository.findAllByOwnerIdAndStartAfter(ownerId, now);
+                return bookingRepository.findFuturePageByOwnerId(ownerId, now, start, id, limit);
             case WAITING:
-                return bookingRepository.findAllByOwnerIdAndStatus(ownerId, Status.WAITING);
+                return bookingRepository.findPageByOwnerIdAndStatus(ownerId, Status.WAITING, start, id, limit);
             case REJECTED:
-                return bookingRepository.findAllByOwnerIdAndStatus(ownerId, Status.REJECTED);
+                return bookingRepository.findPageByOwnerIdAndStatus(ownerId, Status.REJECTED, start, id, limit);
             default:
                 throw new IllegalArgumentException("Invalid state!");
         }
     }
 
+    // One extra row tells whether another page follows without a count query.
+    private static Limit pageLimit(int size) {
+        if (size <= 0) {
+            throw new ValidationException("Page size must be a positive number");
+        }
+        return Limit.of(size + 1);
+    }
+
+    private BookingPage toPage(List<Booking> bookings, int size) {
+        if (bookings.size() <= size) {
+            return new BookingPage(toResponseDtos(bookings), null);
+        }
+        List<Booking> page = bookings.subList(0, size);
+        return new BookingPage(toResponseDtos(page), BookingCursor.after(page.getLast()).encode());
+    }
+
+    private List<BookingResponseDto> toResponseDtos(List<Booking> bookings) {
+        return bookings.stream()
+                .map(bookingMapper::toBookingResponseDto)
+                .toList();
+    }
+
+    private static BookingDecisionResultDto decisionResult(Long bookingId, BookingDecisionResultDto.Outcome outcome,
+                                                           Status status) {
+        return BookingDecisionResultDto.builder()
+                .bookingId(bookingId)
+                .outcome(outcome)
+                .status(status)
+                .build();
+    }
+
     private User getUserOrThrow(Long bookerId) {
         return userRepository.findById(bookerId)
                 .orElseThrow(() -> new NotFoundException("User", bookerId));
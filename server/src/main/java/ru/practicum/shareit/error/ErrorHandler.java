@@ -1,18 +1,25 @@
 package ru.practicum.shareit.error;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import ru.practicum.shareit.error.exception.ConflictException;
 import ru.practicum.shareit.error.exception.NotFoundException;
 
 import java.nio.file.AccessDeniedException;
+import java.sql.SQLException;
 
 @Slf4j
 @RestControllerAdvice
 public class ErrorHandler {
+    private static final String EXCLUSION_VIOLATION_SQL_STATE = "23P01";
+    private static final String BOOKING_OVERLAP_CONSTRAINT = "excl_bookings_item_period";
+
     @ExceptionHandler(NotFoundException.class)
     public ResponseEntity<ErrorResponse> handleNotFound(final NotFoundException e) {
         log.error("NotFoundException: " + e.getMessage());
@@ -26,6 +33,48 @@ public class ErrorHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ErrorResponse> handleConflict(final ConflictException e) {
+        log.error("ConflictException: " + e.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                "Conflict",
+                e.getMessage(),
+                HttpStatus.CONFLICT.value()
+        );
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLock(final OptimisticLockingFailureException e) {
+        log.error("OptimisticLockingFailureException: " + e.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                "Conflict",
+                "The resource was modified concurrently, retry the request",
+                HttpStatus.CONFLICT.value()
+        );
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolation(final DataIntegrityViolationException e) {
+        if (!isBookingOverlap(e)) {
+            return handleException(e);
+        }
+        log.error("Booking overlap rejected by database: " + e.getMostSpecificCause().getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                "Conflict",
+                "Item is already booked for the requested period",
+                HttpStatus.CONFLICT.value()
+        );
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleIllegalArgument(final IllegalArgumentException e) {
         log.error("IllegalArgumentException: " + e.getMessage());
@@ -64,5 +113,17 @@ public class ErrorHandler {
 
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
-}
 
+    private static boolean isBookingOverlap(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException
+                    && EXCLUSION_VIOLATION_SQL_STATE.equals(sqlException.getSQLState())) {
+                return true;
+            }
+            if (cause.getMessage() != null && cause.getMessage().contains(BOOKING_OVERLAP_CONSTRAINT)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
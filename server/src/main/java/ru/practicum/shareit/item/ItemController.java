@@ -2,11 +2,15 @@ package ru.practicum.shareit.item;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import ru.practicum.shareit.item.dto.*;
 import ru.practicum.shareit.item.service.ItemService;
 
 import java.nio.file.AccessDeniedException;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
@@ -47,18 +51,24 @@ public class ItemController {
     @GetMapping("/{itemId}")
     public ItemWithBookingsAndComments getById(
             @RequestHeader("X-Sharer-User-Id") Long userId,
-            @PathVariable(name = "itemId") Long itemId
+            @PathVariable(name = "itemId") Long itemId,
+            WebRequest request
     ) {
         log.info("Service: GET /items/{itemId} - by user {}", itemId);
+        if (request.checkNotModified(itemService.getItemETag(userId, itemId))) {
+            return null;
+        }
         return itemService.getItemById(userId, itemId);
     }
 
     @GetMapping("/search")
     public List<ItemResponseDto> search(
-            @RequestParam String text
+            @RequestParam String text,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end
     ) {
-        log.info("Service: GET /search - search {}", text);
-        return itemService.searchItems(text);
+        log.info("Service: GET /search - search {} free from {} to {}", text, start, end);
+        return itemService.searchItems(text, start, end);
     }
 
     @GetMapping
@@ -69,6 +79,17 @@ public class ItemController {
         return itemService.getItemForOwner(userId);
     }
 
+    @GetMapping("/{itemId}/availability")
+    public ItemAvailabilityDto getAvailability(
+            @PathVariable(name = "itemId") Long itemId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "PT1H") Duration granularity
+    ) {
+        log.info("Service: GET /items/{itemId}/availability - item {} from {} to {}", itemId, from, to);
+        return itemService.getItemAvailability(itemId, from, to, granularity);
+    }
+
     @PostMapping("/{itemId}/comment")
     public CommentResponseDto addComment(
             @RequestHeader("X-Sharer-User-Id") Long userId,
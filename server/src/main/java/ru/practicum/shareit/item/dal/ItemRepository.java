@@ -1,11 +1,18 @@
 package ru.practicum.shareit.item.dal;
 
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import ru.practicum.shareit.item.model.Item;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ItemRepository extends JpaRepository<Item, Long> {
     List<Item> findByOwnerIdOrderById(Long id);
@@ -15,4 +22,63 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
             "LOWER(i.description) LIKE LOWER(CONCAT('%', :text, '%')))")
     List<Item> searchAvailableItems(@Param("text") String text);
 
+    @Query("SELECT i FROM Item i WHERE i.available = true AND " +
+            "(LOWER(i.name) LIKE LOWER(CONCAT('%', :text, '%')) OR " +
+            "LOWER(i.description) LIKE LOWER(CONCAT('%', :text, '%'))) AND " +
+            "NOT EXISTS (SELECT b.id FROM Booking b WHERE b.item = i AND b.start < :end AND b.end > :start " +
+            "AND b.status = 'APPROVED')")
+    List<Item> searchAvailableItemsBetween(
+            @Param("text") String text,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
+    );
+
+    @Query("SELECT new ru.practicum.shareit.item.dal.ItemVersion(" +
+            "i.owner.id, i.version, COUNT(c), COALESCE(SUM(a.version), 0)) " +
+            "FROM Item i LEFT JOIN i.comments c LEFT JOIN c.author a " +
+            "WHERE i.id = :itemId " +
+            "GROUP BY i.id, i.owner.id, i.version")
+    Optional<ItemVersion> findVersionById(@Param("itemId") Long itemId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Item> findWithLockById(Long itemId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<Item> findAllByIdInOrderById(Collection<Long> itemIds);
+
+    @Query("SELECT i.id FROM Item i " +
+            "WHERE i.id > :afterId " +
+            "AND (i.bookingPointersValidUntil IS NULL OR i.bookingPointersValidUntil <= :now) " +
+            "ORDER BY i.id")
+    List<Long> findIdsWithStaleBookingPointers(
+            @Param("now") LocalDateTime now,
+            @Param("afterId") Long afterId,
+            Limit limit
+    );
+
+    @Modifying
+    @Query(value = "UPDATE items SET " +
+            "last_booking_id = :lastId, last_booking_booker_id = :lastBookerId, " +
+            "last_booking_start = :lastStart, last_booking_end = :lastEnd, " +
+            "next_booking_id = :nextId, next_booking_booker_id = :nextBookerId, " +
+            "next_booking_start = :nextStart, next_booking_end = :nextEnd, " +
+            "booking_pointers_valid_until = :validUntil " +
+            "WHERE id = :itemId", nativeQuery = true)
+    void updateBookingPointers(
+            @Param("itemId") Long itemId,
+            @Param("lastId") Long lastId,
+            @Param("lastBookerId") Long lastBookerId,
+            @Param("lastStart") LocalDateTime lastStart,
+            @Param("lastEnd") LocalDateTime lastEnd,
+            @Param("nextId") Long nextId,
+            @Param("nextBookerId") Long nextBookerId,
+            @Param("nextStart") LocalDateTime nextStart,
+            @Param("nextEnd") LocalDateTime nextEnd,
+            @Param("validUntil") LocalDateTime validUntil
+    );
+
+    @Modifying
+    @Query(value = "UPDATE items SET booking_pointers_valid_until = NULL " +
+            "WHERE last_booking_booker_id = :bookerId OR next_booking_booker_id = :bookerId", nativeQuery = true)
+    void invalidateBookingPointersOfBooker(@Param("bookerId") Long bookerId);
 }
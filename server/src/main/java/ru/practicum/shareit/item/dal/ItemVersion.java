@@ -0,0 +1,8 @@
+package ru.practicum.shareit.item.dal;
+
+/**
+ * Everything {@code GET /items/{itemId}} renders apart from the owner's last and next bookings:
+ * the item row, its comments and the names of their authors.
+ */
+public record ItemVersion(Long ownerId, Long version, Long comments, Long authorVersions) {
+}
@@ -0,0 +1,23 @@
+package ru.practicum.shareit.item.model;
+
+import jakarta.persistence.Embeddable;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+
+@Embeddable
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookingPointer {
+    Long bookingId;
+    Long bookerId;
+    LocalDateTime start;
+    LocalDateTime end;
+}
@@ -7,6 +7,7 @@ import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.user.model.User;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
@@ -20,9 +21,13 @@ import java.util.List;
 @NoArgsConstructor
 public class Item {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "items_seq")
+    @SequenceGenerator(name = "items_seq", sequenceName = "items_seq", allocationSize = 50)
     Long id;
 
+    @Version
+    Long version;
+
     String name;
     String description;
     Boolean available;
@@ -37,6 +42,32 @@ public class Item {
     @ToString.Exclude
     ItemRequest request;
 
+    // Written only by BookingPointerService, so owner edits neither overwrite them nor bump the version.
+    @Embedded
+    @AttributeOverride(name = "bookingId",
+            column = @Column(name = "last_booking_id", insertable = false, updatable = false))
+    @AttributeOverride(name = "bookerId",
+            column = @Column(name = "last_booking_booker_id", insertable = false, updatable = false))
+    @AttributeOverride(name = "start",
+            column = @Column(name = "last_booking_start", insertable = false, updatable = false))
+    @AttributeOverride(name = "end",
+            column = @Column(name = "last_booking_end", insertable = false, updatable = false))
+    BookingPointer lastApprovedBooking;
+
+    @Embedded
+    @AttributeOverride(name = "bookingId",
+            column = @Column(name = "next_booking_id", insertable = false, updatable = false))
+    @AttributeOverride(name = "bookerId",
+            column = @Column(name = "next_booking_booker_id", insertable = false, updatable = false))
+    @AttributeOverride(name = "start",
+            column = @Column(name = "next_booking_start", insertable = false, updatable = false))
+    @AttributeOverride(name = "end",
+            column = @Column(name = "next_booking_end", insertable = false, updatable = false))
+    BookingPointer nextApprovedBooking;
+
+    @Column(name = "booking_pointers_valid_until", insertable = false, updatable = false)
+    LocalDateTime bookingPointersValidUntil;
+
     @OneToMany(mappedBy = "item")
     @ToString.Exclude
     List<Booking> bookings;
@@ -0,0 +1,49 @@
+package ru.practicum.shareit.item.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.dal.ItemRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Recomputes the booking pointers that time has made stale (a next booking started, an approved one ended)
+ * or that were never computed, one batch of items per transaction.
+ */
+@Slf4j
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit-server.booking-pointers.roller-enabled", matchIfMissing = true)
+public class BookingPointerRoller {
+    private static final int BATCH_SIZE = 500;
+
+    private final ItemRepository itemRepository;
+    private final BookingPointerService bookingPointerService;
+
+    @Scheduled(initialDelayString = "${shareit-server.booking-pointers.roll-interval}",
+            fixedDelayString = "${shareit-server.booking-pointers.roll-interval}")
+    public void roll() {
+        LocalDateTime now = LocalDateTime.now();
+        long afterId = 0;
+        int rolled = 0;
+        List<Long> itemIds;
+        do {
+            itemIds = itemRepository.findIdsWithStaleBookingPointers(now, afterId, Limit.of(BATCH_SIZE));
+            if (!itemIds.isEmpty()) {
+                bookingPointerService.refresh(itemIds, now);
+                afterId = itemIds.getLast();
+                rolled += itemIds.size();
+            }
+        } while (itemIds.size() == BATCH_SIZE);
+        if (rolled > 0) {
+            log.info("Rolled booking pointers of {} items", rolled);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package ru.practicum.shareit.item.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dal.BookingRepository;
+import ru.practicum.shareit.booking.dal.ItemBookingEnd;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.dal.ItemRepository;
+import ru.practicum.shareit.item.model.BookingPointer;
+import ru.practicum.shareit.item.model.Item;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Copies each item's last and next APPROVED booking onto the item row, so the owner's item list reads them
+ * with the items. The copy stays correct until {@code booking_pointers_valid_until}: the moment the next
+ * booking starts or an approved booking ends. {@code NULL} there means it has to be recomputed.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookingPointerService {
+    public static final LocalDateTime NEVER = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private final ItemRepository itemRepository;
+    private final BookingRepository bookingRepository;
+
+    public static boolean isFresh(Item item, LocalDateTime now) {
+        return item.getBookingPointersValidUntil() != null && item.getBookingPointersValidUntil().isAfter(now);
+    }
+
+    @Transactional
+    public void refresh(Collection<Long> itemIds) {
+        refresh(itemIds, LocalDateTime.now());
+    }
+
+    @Transactional
+    public void refresh(Collection<Long> itemIds, LocalDateTime now) {
+        if (itemIds.isEmpty()) {
+            return;
+        }
+        // Row locks serialize this with approvals of the same items, so the later writer sees the earlier one.
+        List<Item> items = itemRepository.findAllByIdInOrderById(itemIds);
+        List<Long> lockedIds = items.stream().map(Item::getId).toList();
+        if (lockedIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Booking> lastBookings = byItemId(bookingRepository.findLastBookingsForItems(lockedIds, now));
+        Map<Long, Booking> nextBookings = byItemId(bookingRepository.findNextBookingsForItems(lockedIds, now));
+        Map<Long, LocalDateTime> earliestEnds = bookingRepository.findEarliestApprovedEndsForItems(lockedIds, now)
+                .stream()
+                .collect(Collectors.toMap(ItemBookingEnd::itemId, ItemBookingEnd::end));
+
+        for (Item item : items) {
+            BookingPointer last = toPointer(lastBookings.get(item.getId()));
+            BookingPointer next = toPointer(nextBookings.get(item.getId()));
+            LocalDateTime validUntil = next != null ? next.getStart() : NEVER;
+            LocalDateTime earliestEnd = earliestEnds.get(item.getId());
+            if (earliestEnd != null && earliestEnd.isBefore(validUntil)) {
+                validUntil = earliestEnd;
+            }
+
+            itemRepository.updateBookingPointers(item.getId(),
+                    last != null ? last.getBookingId() : null,
+                    last != null ? last.getBookerId() : null,
+                    last != null ? last.getStart() : null,
+                    last != null ? last.getEnd() : null,
+                    next != null ? next.getBookingId() : null,
+                    next != null ? next.getBookerId() : null,
+                    next != null ? next.getStart() : null,
+                    next != null ? next.getEnd() : null,
+                    validUntil);
+            item.setLastApprovedBooking(last);
+            item.setNextApprovedBooking(next);
+            item.setBookingPointersValidUntil(validUntil);
+        }
+        log.debug("Refreshed booking pointers of items {}", lockedIds);
+    }
+
+    @Transactional
+    public void invalidateForBooker(Long bookerId) {
+        itemRepository.invalidateBookingPointersOfBooker(bookerId);
+    }
+
+    private static Map<Long, Booking> byItemId(List<Booking> bookings) {
+        return bookings.stream().collect(Collectors.toMap(b -> b.getItem().getId(), Function.identity()));
+    }
+
+    private static BookingPointer toPointer(Booking booking) {
+        if (booking == null) {
+            return null;
+        }
+        return BookingPointer.builder()
+                .bookingId(booking.getId())
+                .bookerId(booking.getBooker().getId())
+                .start(booking.getStart())
+                .end(booking.getEnd())
+                .build();
+    }
+}
@@ -0,0 +1,121 @@
+package ru.practicum.shareit.item.service;
+
+import ru.practicum.shareit.booking.dal.BookingPeriod;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Approved booking periods of one item from {@link #getLoadedFrom()} on, merged and kept as sorted
+ * epoch-microsecond arrays so that a window is located with a binary search.
+ */
+public final class ItemCalendar {
+    private final LocalDateTime loadedFrom;
+    private final long[] starts;
+    private final long[] ends;
+
+    private ItemCalendar(LocalDateTime loadedFrom, long[] starts, long[] ends) {
+        this.loadedFrom = loadedFrom;
+        this.starts = starts;
+        this.ends = ends;
+    }
+
+    /**
+     * @param periods periods ordered by start
+     */
+    public static ItemCalendar of(LocalDateTime loadedFrom, List<BookingPeriod> periods) {
+        long[] starts = new long[periods.size()];
+        long[] ends = new long[periods.size()];
+        int size = 0;
+        for (BookingPeriod period : periods) {
+            long start = micros(period.start());
+            long end = micros(period.end());
+            if (size > 0 && start <= ends[size - 1]) {
+                ends[size - 1] = Math.max(ends[size - 1], end);
+            } else {
+                starts[size] = start;
+                ends[size] = end;
+                size++;
+            }
+        }
+        return new ItemCalendar(loadedFrom, Arrays.copyOf(starts, size), Arrays.copyOf(ends, size));
+    }
+
+    public LocalDateTime getLoadedFrom() {
+        return loadedFrom;
+    }
+
+    public boolean covers(LocalDateTime from) {
+        return !from.isBefore(loadedFrom);
+    }
+
+    /**
+     * Splits {@code [from, to)} into slots of {@code granularity} (the last one may be shorter) and returns
+     * the lengths of alternating free and occupied runs of slots, starting with a free run that may be 0.
+     */
+    public List<Integer> occupiedRuns(LocalDateTime from, LocalDateTime to, Duration granularity) {
+        long fromMicros = micros(from);
+        long toMicros = micros(to);
+        long slotMicros = granularity.toNanos() / 1_000;
+        int slots = slotCount(from, to, granularity);
+
+        List<Integer> runs = new ArrayList<>();
+        int cursor = 0;
+        for (int i = firstEndingAfter(fromMicros); i < starts.length && starts[i] < toMicros; i++) {
+            int first = (int) ((Math.max(starts[i], fromMicros) - fromMicros) / slotMicros);
+            int last = (int) ((Math.min(ends[i], toMicros) - fromMicros + slotMicros - 1) / slotMicros);
+            first = Math.max(first, cursor);
+            if (last <= first) {
+                continue;
+            }
+            append(runs, false, first - cursor);
+            append(runs, true, last - first);
+            cursor = last;
+        }
+        append(runs, false, slots - cursor);
+        return runs;
+    }
+
+    public static int slotCount(LocalDateTime from, LocalDateTime to, Duration granularity) {
+        long slotMicros = granularity.toNanos() / 1_000;
+        long slots = (micros(to) - micros(from) + slotMicros - 1) / slotMicros;
+        return (int) Math.min(slots, Integer.MAX_VALUE);
+    }
+
+    private int firstEndingAfter(long micros) {
+        int low = 0;
+        int high = ends.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (ends[middle] <= micros) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static void append(List<Integer> runs, boolean occupied, int length) {
+        if (length == 0) {
+            return;
+        }
+        boolean nextIsOccupied = runs.size() % 2 == 1;
+        if (nextIsOccupied == occupied) {
+            runs.add(length);
+        } else if (runs.isEmpty()) {
+            runs.add(0);
+            runs.add(length);
+        } else {
+            runs.set(runs.size() - 1, runs.get(runs.size() - 1) + length);
+        }
+    }
+
+    private static long micros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + dateTime.getNano() / 1_000;
+    }
+}
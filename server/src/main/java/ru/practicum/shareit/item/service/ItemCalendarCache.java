@@ -0,0 +1,80 @@
+package ru.practicum.shareit.item.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.booking.dal.BookingRepository;
+import ru.practicum.shareit.error.exception.NotFoundException;
+import ru.practicum.shareit.item.dal.ItemRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Keeps an {@link ItemCalendar} per item covering approved bookings that ended at most {@code history} ago.
+ * Windows starting earlier than that are read from the database and not cached.
+ */
+@Slf4j
+@Component
+public class ItemCalendarCache {
+    private static final LocalDateTime FAR_FUTURE = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private final ItemRepository itemRepository;
+    private final BookingRepository bookingRepository;
+    private final Duration history;
+    private final Cache<Long, ItemCalendar> calendars;
+
+    public ItemCalendarCache(
+            ItemRepository itemRepository,
+            BookingRepository bookingRepository,
+            @Value("${shareit-server.availability.history}") Duration history,
+            @Value("${shareit-server.availability.cache-size}") long cacheSize,
+            @Value("${shareit-server.availability.cache-ttl}") Duration cacheTtl
+    ) {
+        this.itemRepository = itemRepository;
+        this.bookingRepository = bookingRepository;
+        this.history = history;
+        this.calendars = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(cacheTtl)
+                .build();
+    }
+
+    public ItemCalendar calendar(Long itemId, LocalDateTime from, LocalDateTime to) {
+        ItemCalendar calendar = calendars.get(itemId, this::load);
+        if (calendar.covers(from)) {
+            return calendar;
+        }
+        return ItemCalendar.of(from, bookingRepository.findApprovedPeriods(itemId, from, to));
+    }
+
+    /**
+     * Drops the item's calendar once the current transaction commits, so a concurrent reader
+     * cannot cache the state from before the change.
+     */
+    public void invalidate(Long itemId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            calendars.invalidate(itemId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                calendars.invalidate(itemId);
+            }
+        });
+    }
+
+    private ItemCalendar load(Long itemId) {
+        if (!itemRepository.existsById(itemId)) {
+            throw new NotFoundException("Item", itemId);
+        }
+        LocalDateTime loadedFrom = LocalDateTime.now().minus(history);
+        log.debug("Loading calendar of item {} from {}", itemId, loadedFrom);
+        return ItemCalendar.of(loadedFrom, bookingRepository.findApprovedPeriods(itemId, loadedFrom, FAR_FUTURE));
+    }
+}
@@ -1,8 +1,11 @@
 package ru.practicum.shareit.item.service;
 
+import org.springframework.lang.Nullable;
 import ru.practicum.shareit.item.dto.*;
 
 import java.nio.file.AccessDeniedException;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ItemService {
@@ -14,9 +17,13 @@ public interface ItemService {
 
     ItemWithBookingsAndComments getItemById(Long userId, Long itemId);
 
-    List<ItemResponseDto> searchItems(String text);
+    String getItemETag(Long userId, Long itemId);
+
+    List<ItemResponseDto> searchItems(String text, @Nullable LocalDateTime start, @Nullable LocalDateTime end);
 
     List<ItemWithBookingsAndComments> getItemForOwner(Long ownerId);
 
+    ItemAvailabilityDto getItemAvailability(Long itemId, LocalDateTime from, LocalDateTime to, Duration granularity);
+
     CommentResponseDto addComment(Long authorId, Long itemId, CommentCreateDto commentCreateDto);
 }
@@ -2,6 +2,7 @@ package ru.practicum.shareit.item.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.dal.BookingRepository;
@@ -9,8 +10,10 @@ import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.Status;
 import ru.practicum.shareit.error.exception.NotFoundException;
+import ru.practicum.shareit.error.exception.ValidationException;
 import ru.practicum.shareit.item.dal.CommentRepository;
 import ru.practicum.shareit.item.dal.ItemRepository;
+import ru.practicum.shareit.item.dal.ItemVersion;
 import ru.practicum.shareit.item.dto.*;
 import ru.practicum.shareit.item.mapper.CommentMapper;
 import ru.practicum.shareit.item.mapper.ItemMapper;
@@ -22,6 +25,7 @@ import ru.practicum.shareit.user.dal.UserRepository;
 import ru.practicum.shareit.user.model.User;
 
 import java.nio.file.AccessDeniedException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
@@ -33,6 +37,8 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ItemServiceImpl implements ItemService {
+    private static final Duration MIN_AVAILABILITY_GRANULARITY = Duration.ofMinutes(1);
+    private static final int MAX_AVAILABILITY_SLOTS = 10_000;
 
     private final ItemRepository itemRepository;
     private final UserRepository userRepository;
@@ -42,6 +48,7 @@ public class ItemServiceImpl implements ItemService {
     private final BookingMapper bookingMapper;
     private final CommentMapper commentMapper;
     private final ItemRequestRepository itemRequestRepository;
+    private final ItemCalendarCache itemCalendarCache;
 
     @Override
     @Transactional
@@ -104,6 +111,7 @@ public class ItemServiceImpl implements ItemService {
         }
 
         itemRepository.deleteById(itemId);
+        itemCalendarCache.invalidate(itemId);
         log.info("Item with id: {} successfully deleted", itemId);
     }
 
@@ -115,15 +123,13 @@ public class ItemServiceImpl implements ItemService {
         ItemWithBookingsAndComments itemDto = itemMapper.toItemWithBookingsAndComments(item);
 
         if (item.getOwner().getId().equals(userId)) {
-            List<Booking> lastBookings = bookingRepository.findByItemIdAndEndBeforeOrderByEndDesc(itemId, LocalDateTime.now());
-            if (!lastBookings.isEmpty()) {
-                itemDto.setLastBooking(bookingMapper.toBookingForItemDto(lastBookings.getFirst()));
-            }
-
-            List<Booking> nextBookings = bookingRepository.findByItemIdAndStartAfterOrderByStartAsc(
-                    itemId, LocalDateTime.now());
-            if (!nextBookings.isEmpty()) {
-                itemDto.setNextBooking(bookingMapper.toBookingForItemDto(nextBookings.getFirst()));
+            LocalDateTime now = LocalDateTime.now();
+            if (BookingPointerService.isFresh(item, now)) {
+                setBookingPointers(itemDto, item);
+            } else {
+                List<Long> itemIds = List.of(itemId);
+                setBookings(itemDto, bookingRepository.findLastBookingsForItems(itemIds).get(itemId),
+                        bookingRepository.findNextBookingsForItems(itemIds).get(itemId));
             }
         }
 
@@ -137,14 +143,36 @@ public class ItemServiceImpl implements ItemService {
     }
 
     @Override
-    public List<ItemResponseDto> searchItems(String text) {
-        log.info("Search items for text: {}", text);
+    public String getItemETag(Long userId, Long itemId) {
+        ItemVersion version = itemRepository.findVersionById(itemId)
+                .orElseThrow(() -> new NotFoundException("Item", itemId));
+
+        String etag = itemId + "-" + version.version() + "-" + version.comments() + "-" + version.authorVersions();
+        if (!version.ownerId().equals(userId)) {
+            return etag;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        return etag
+                + "-" + bookingRepository.findLastBookingIdForItem(itemId, now).orElse(0L)
+                + "-" + bookingRepository.findNextBookingIdForItem(itemId, now).orElse(0L);
+    }
+
+    @Override
+    public List<ItemResponseDto> searchItems(String text, @Nullable LocalDateTime start, @Nullable LocalDateTime end) {
+        log.info("Search items for text: {} free from {} to {}", text, start, end);
+
+        if ((start == null) != (end == null) || start != null && !start.isBefore(end)) {
+            throw new ValidationException("Search window needs both start and end, with start before end");
+        }
 
         if (text == null || text.trim().isEmpty()) {
             return Collections.emptyList();
         }
 
-        List<Item> items = itemRepository.searchAvailableItems(text.trim());
+        List<Item> items = start == null
+                ? itemRepository.searchAvailableItems(text.trim())
+                : itemRepository.searchAvailableItemsBetween(text.trim(), start, end);
         List<ItemResponseDto> result = items.stream()
                 .map(itemMapper::toItemResponseDto)
                 .collect(Collectors.toList());
@@ -162,8 +190,13 @@ public class ItemServiceImpl implements ItemService {
         List<Item> items = itemRepository.findByOwnerIdOrderById(ownerId);
         List<Long> itemIds = items.stream().map(Item::getId).toList();
 
-        Map<Long, List<Booking>> lastBookingsMap = bookingRepository.findLastBookingsForItems(itemIds);
-        Map<Long, List<Booking>> nextBookingsMap = bookingRepository.findNextBookingsForItems(itemIds);
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> staleItemIds = items.stream()
+                .filter(item -> !BookingPointerService.isFresh(item, now))
+                .map(Item::getId)
+                .toList();
+        Map<Long, Booking> lastBookings = bookingRepository.findLastBookingsForItems(staleItemIds);
+        Map<Long, Booking> nextBookings = bookingRepository.findNextBookingsForItems(staleItemIds);
 
         Map<Long, List<Comment>> commentsByItem = commentRepository.findByItemIdIn(itemIds)
                 .stream()
@@ -173,14 +206,10 @@ public class ItemServiceImpl implements ItemService {
                 .map(item -> {
                     ItemWithBookingsAndComments dto = itemMapper.toItemWithBookingsAndComments(item);
 
-                    List<Booking> lastBookings = lastBookingsMap.getOrDefault(item.getId(), Collections.emptyList());
-                    List<Booking> nextBookings = nextBookingsMap.getOrDefault(item.getId(), Collections.emptyList());
-
-                    if (!lastBookings.isEmpty()) {
-                        dto.setLastBooking(bookingMapper.toBookingForItemDto(lastBookings.getFirst()));
-                    }
-                    if (!nextBookings.isEmpty()) {
-                        dto.setNextBooking(bookingMapper.toBookingForItemDto(nextBookings.getFirst()));
+                    if (BookingPointerService.isFresh(item, now)) {
+                        setBookingPointers(dto, item);
+                    } else {
+                        setBookings(dto, lastBookings.get(item.getId()), nextBookings.get(item.getId()));
                     }
 
                     List<Comment> itemComments = commentsByItem.getOrDefault(item.getId(), Collections.emptyList());
@@ -195,6 +224,52 @@ public class ItemServiceImpl implements ItemService {
         return result;
     }
 
+    private void setBookingPointers(ItemWithBookingsAndComments dto, Item item) {
+        if (item.getLastApprovedBooking() != null) {
+            dto.setLastBooking(bookingMapper.toBookingForItemDto(item.getLastApprovedBooking()));
+        }
+        if (item.getNextApprovedBooking() != null) {
+            dto.setNextBooking(bookingMapper.toBookingForItemDto(item.getNextApprovedBooking()));
+        }
+    }
+
+    private void setBookings(ItemWithBookingsAndComments dto, @Nullable Booking lastBooking,
+                             @Nullable Booking nextBooking) {
+        if (lastBooking != null) {
+            dto.setLastBooking(bookingMapper.toBookingForItemDto(lastBooking));
+        }
+        if (nextBooking != null) {
+            dto.setNextBooking(bookingMapper.toBookingForItemDto(nextBooking));
+        }
+    }
+
+    @Override
+    public ItemAvailabilityDto getItemAvailability(Long itemId, LocalDateTime from, LocalDateTime to,
+                                                   Duration granularity) {
+        log.info("Getting availability of item {} from {} to {} by {}", itemId, from, to, granularity);
+
+        if (!from.isBefore(to)) {
+            throw new ValidationException("Availability window must end after it starts");
+        }
+        if (granularity.compareTo(MIN_AVAILABILITY_GRANULARITY) < 0) {
+            throw new ValidationException("Granularity must be at least " + MIN_AVAILABILITY_GRANULARITY);
+        }
+        int slots = ItemCalendar.slotCount(from, to, granularity);
+        if (slots > MAX_AVAILABILITY_SLOTS) {
+            throw new ValidationException("Availability window must not exceed " + MAX_AVAILABILITY_SLOTS + " slots");
+        }
+
+        ItemCalendar calendar = itemCalendarCache.calendar(itemId, from, to);
+        return ItemAvailabilityDto.builder()
+                .itemId(itemId)
+                .from(from)
+                .to(to)
+                .granularity(granularity.toString())
+                .slots(slots)
+                .runs(calendar.occupiedRuns(from, to, granularity))
+                .build();
+    }
+
     @Override
     @Transactional
     public CommentResponseDto addComment(Long authorId, Long itemId, CommentCreateDto commentCreateDto) {
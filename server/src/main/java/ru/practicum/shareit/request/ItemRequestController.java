@@ -3,6 +3,7 @@ package ru.practicum.shareit.request;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestResponseDto;
 import ru.practicum.shareit.request.service.ItemRequestService;
@@ -49,9 +50,13 @@ public class ItemRequestController {
     @GetMapping("/{requestId}")
     public ItemRequestResponseDto getRequestById(
             @RequestHeader("X-Sharer-User-Id") Long userId,
-            @PathVariable(name = "requestId") Long requestId
+            @PathVariable(name = "requestId") Long requestId,
+            WebRequest request
     ) {
         log.info("Server GET /requests/{} - get request by user {}", requestId, userId);
+        if (request.checkNotModified(itemRequestService.getRequestETag(userId, requestId))) {
+            return null;
+        }
         return itemRequestService.getRequestById(userId, requestId);
     }
 }
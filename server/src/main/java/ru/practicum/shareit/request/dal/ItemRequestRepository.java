@@ -37,4 +37,10 @@ public interface ItemRequestRepository extends JpaRepository<ItemRequest, Long>
             "LEFT JOIN FETCH i.owner " +
             "WHERE ir.id = :id")
     Optional<ItemRequest> findByRequestId(@Param("id") long id);
+
+    @Query("SELECT new ru.practicum.shareit.request.dal.ItemRequestVersion(ir.version, i.id, i.version) " +
+            "FROM ItemRequest ir LEFT JOIN ir.items i " +
+            "WHERE ir.id = :id " +
+            "ORDER BY i.id")
+    List<ItemRequestVersion> findVersionsById(@Param("id") long id);
 }
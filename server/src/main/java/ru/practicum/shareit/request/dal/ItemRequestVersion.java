@@ -0,0 +1,10 @@
+package ru.practicum.shareit.request.dal;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * One row of everything {@code GET /requests/{requestId}} renders: the request version and one answering
+ * item, or no item when nothing answers the request yet.
+ */
+public record ItemRequestVersion(Long version, @Nullable Long itemId, @Nullable Long itemVersion) {
+}
@@ -20,9 +20,13 @@ import java.util.List;
 @AllArgsConstructor
 public class ItemRequest {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "requests_seq")
+    @SequenceGenerator(name = "requests_seq", sequenceName = "requests_seq", allocationSize = 50)
     Long id;
 
+    @Version
+    Long version;
+
     String description;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -16,4 +16,6 @@ public interface ItemRequestService {
     List<ItemRequestResponseDto> getAllRequests(Long userId, Integer from, Integer size);
 
     ItemRequestResponseDto getRequestById(Long userId, Long requestId);
+
+    String getRequestETag(Long userId, Long requestId);
 }
@@ -9,6 +9,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.error.exception.NotFoundException;
 import ru.practicum.shareit.request.dal.ItemRequestRepository;
+import ru.practicum.shareit.request.dal.ItemRequestVersion;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestResponseDto;
 import ru.practicum.shareit.request.mapper.ItemRequestMapper;
@@ -16,8 +17,10 @@ import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.user.dal.UserRepository;
 import ru.practicum.shareit.user.model.User;
 
+import java.nio.ByteBuffer;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.zip.CRC32C;
 
 @Slf4j
 @Service
@@ -108,4 +111,27 @@ public class ItemRequestServiceImpl implements ItemRequestService {
 
         return itemRequestMapper.toResponseDto(foundRequest);
     }
+
+    @Override
+    public String getRequestETag(Long userId, Long requestId) {
+        if (!userRepository.existsById(userId)) {
+            throw new NotFoundException("User",  userId);
+        }
+
+        List<ItemRequestVersion> versions = itemRequestRepository.findVersionsById(requestId);
+        if (versions.isEmpty()) {
+            throw new NotFoundException("Request",  requestId);
+        }
+
+        // Hash the ordered (id, version) pairs: replacing one answering item with another changes the tag
+        // even when the item count and version sum stay the same.
+        CRC32C items = new CRC32C();
+        ByteBuffer pair = ByteBuffer.allocate(2 * Long.BYTES);
+        for (ItemRequestVersion version : versions) {
+            if (version.itemId() != null) {
+                items.update(pair.clear().putLong(version.itemId()).putLong(version.itemVersion()).flip());
+            }
+        }
+        return requestId + "-" + versions.getFirst().version() + "-" + Long.toHexString(items.getValue());
+    }
 }
@@ -3,6 +3,7 @@ package ru.practicum.shareit.user;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import ru.practicum.shareit.user.dto.UserCreateDto;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.dto.UserUpdateDto;
@@ -46,9 +47,13 @@ public class UserController {
 
     @GetMapping("/{userId}")
     public UserDto getById(
-            @PathVariable(name = "userId") Long userId
+            @PathVariable(name = "userId") Long userId,
+            WebRequest request
     ) {
         log.info("Service: GET /users/{userId} - get user {}", userId);
+        if (request.checkNotModified(userService.getUserETag(userId))) {
+            return null;
+        }
         return userService.getUserById(userId);
     }
 
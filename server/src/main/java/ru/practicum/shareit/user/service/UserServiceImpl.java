@@ -4,7 +4,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dal.BookingRepository;
 import ru.practicum.shareit.error.exception.NotFoundException;
+import ru.practicum.shareit.item.service.BookingPointerService;
+import ru.practicum.shareit.item.service.ItemCalendarCache;
 import ru.practicum.shareit.user.dal.UserRepository;
 import ru.practicum.shareit.user.dto.UserCreateDto;
 import ru.practicum.shareit.user.dto.UserDto;
@@ -21,6 +24,9 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final BookingPointerService bookingPointerService;
+    private final BookingRepository bookingRepository;
+    private final ItemCalendarCache itemCalendarCache;
 
     @Override
     @Transactional
@@ -68,6 +74,10 @@ public class UserServiceImpl implements UserService {
         if (!userRepository.existsById(userId)) {
             throw new NotFoundException("User", userId);
         }
+        // The user's bookings go with them, so items pointing at one must recompute their last/next booking
+        // and drop the calendars built from them.
+        bookingPointerService.invalidateForBooker(userId);
+        bookingRepository.findApprovedItemIdsOfUser(userId).forEach(itemCalendarCache::invalidate);
         userRepository.deleteById(userId);
     }
 
@@ -78,6 +88,13 @@ public class UserServiceImpl implements UserService {
         return userMapper.toUserDto(user);
     }
 
+    @Override
+    public String getUserETag(Long userId) {
+        Long version = userRepository.findVersionById(userId)
+                .orElseThrow(() -> new NotFoundException("User", userId));
+        return userId + "-" + version;
+    }
+
     @Override
     public List<UserDto> getAllUser() {
         List<User> users = userRepository.findAll();
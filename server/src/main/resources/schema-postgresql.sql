@@ -0,0 +1,8 @@
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- Runs after schema.sql (see spring.sql.init.schema-locations); dropping first keeps re-runs idempotent.
+ALTER TABLE bookings DROP CONSTRAINT IF EXISTS excl_bookings_item_period;
+ALTER TABLE bookings ADD CONSTRAINT excl_bookings_item_period EXCLUDE USING gist (
+    item_id WITH =,
+    tsrange(start_date, end_date) WITH &&
+) WHERE (status IN ('WAITING', 'APPROVED'));
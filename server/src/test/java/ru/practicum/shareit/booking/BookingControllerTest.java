@@ -9,11 +9,16 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.booking.dto.BookingDecisionDto;
+import ru.practicum.shareit.booking.dto.BookingDecisionResultDto;
+import ru.practicum.shareit.booking.dto.BookingPage;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.model.State;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.error.exception.ConflictException;
 import ru.practicum.shareit.error.exception.NotFoundException;
+import ru.practicum.shareit.error.exception.ValidationException;
 import ru.practicum.shareit.item.dto.ItemResponseDto;
 import ru.practicum.shareit.user.dto.UserDto;
 
@@ -111,6 +116,25 @@ class BookingControllerTest {
                 .andExpect(jsonPath("$.status").value("APPROVED"));
     }
 
+    @Test
+    void decide_ValidDecisions_ReturnsResultPerBooking() throws Exception {
+        List<BookingDecisionDto> decisions = List.of(new BookingDecisionDto(1L, true), new BookingDecisionDto(2L, false));
+        when(bookingService.decideBookings(eq(1L), eq(decisions))).thenReturn(List.of(
+                new BookingDecisionResultDto(1L, BookingDecisionResultDto.Outcome.APPLIED,
+                        ru.practicum.shareit.booking.model.Status.APPROVED),
+                new BookingDecisionResultDto(2L, BookingDecisionResultDto.Outcome.FORBIDDEN, null)));
+
+        mockMvc.perform(patch("/bookings")
+                        .header("X-Sharer-User-Id", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(decisions)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].outcome").value("APPLIED"))
+                .andExpect(jsonPath("$[0].status").value("APPROVED"))
+                .andExpect(jsonPath("$[1].outcome").value("FORBIDDEN"))
+                .andExpect(jsonPath("$[1].status").doesNotExist());
+    }
+
     @Test
     void updateStatus_AccessDenied_ReturnsForbidden() throws Exception {
         when(bookingService.updateStatus(anyLong(), anyLong(), anyBoolean()))
@@ -167,13 +191,14 @@ class BookingControllerTest {
 
         List<BookingResponseDto> bookings = List.of(bookingResponseDto, booking2);
 
-        when(bookingService.getBookingsByBooker(anyLong(), any(State.class)))
-                .thenReturn(bookings);
+        when(bookingService.getBookingsByBooker(anyLong(), any(State.class), isNull(), eq(20)))
+                .thenReturn(new BookingPage(bookings, "next"));
 
         mockMvc.perform(get("/bookings")
                         .header("X-Sharer-User-Id", 1L)
                         .param("state", "ALL"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "next"))
                 .andExpect(jsonPath("$.length()").value(2))
                 .andExpect(jsonPath("$[0].id").value(1L))
                 .andExpect(jsonPath("$[0].status").value("WAITING"))
@@ -185,6 +210,55 @@ class BookingControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void getBookingsByBooker_WithSize_ReturnsPageAndNextCursor() throws Exception {
+        when(bookingService.getBookingsByBooker(1L, State.FUTURE, null, 1))
+                .thenReturn(new BookingPage(List.of(bookingResponseDto), "next"));
+        when(bookingService.getBookingsByBooker(1L, State.FUTURE, "next", 1))
+                .thenReturn(new BookingPage(List.of(), null));
+
+        mockMvc.perform(get("/bookings")
+                        .header("X-Sharer-User-Id", 1L)
+                        .param("state", "FUTURE")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "next"))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(1L));
+
+        mockMvc.perform(get("/bookings")
+                        .header("X-Sharer-User-Id", 1L)
+                        .param("state", "FUTURE")
+                        .param("size", "1")
+                        .param("cursor", "next"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Next-Cursor"))
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    void getBookingsByOwner_CursorWithoutSize_UsesDefaultPageSize() throws Exception {
+        when(bookingService.getBookingsByOwner(1L, State.ALL, "next", 20))
+                .thenReturn(new BookingPage(List.of(bookingResponseDto), null));
+
+        mockMvc.perform(get("/bookings/owner")
+                        .header("X-Sharer-User-Id", 1L)
+                        .param("cursor", "next"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    void getBookingsByBooker_InvalidCursor_ReturnsBadRequest() throws Exception {
+        when(bookingService.getBookingsByBooker(1L, State.ALL, "broken", 20))
+                .thenThrow(new ValidationException("Invalid cursor: broken"));
+
+        mockMvc.perform(get("/bookings")
+                        .header("X-Sharer-User-Id", 1L)
+                        .param("cursor", "broken"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void getBookingsByOwner_ValidData_ReturnsBookings() throws Exception {
         BookingResponseDto booking2 = BookingResponseDto.builder()
@@ -196,8 +270,8 @@ class BookingControllerTest {
 
         List<BookingResponseDto> bookings = List.of(bookingResponseDto, booking2);
 
-        when(bookingService.getBookingsByOwner(anyLong(), any(State.class)))
-                .thenReturn(bookings);
+        when(bookingService.getBookingsByOwner(anyLong(), any(State.class), isNull(), eq(20)))
+                .thenReturn(new BookingPage(bookings, null));
 
         mockMvc.perform(get("/bookings/owner")
                         .header("X-Sharer-User-Id", 1L)
@@ -237,6 +311,19 @@ class BookingControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void addBooking_PeriodAlreadyBooked_ReturnsConflict() throws Exception {
+        when(bookingService.addBooking(anyLong(), any(BookingRequestDto.class)))
+                .thenThrow(new ConflictException("Item is already booked for the requested period"));
+
+        mockMvc.perform(post("/bookings")
+                        .header("X-Sharer-User-Id", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(bookingRequestJson))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("Conflict"));
+    }
+
     @Test
     void addBooking_ItemNotAvailable_ReturnsBadRequest() throws Exception {
         when(bookingService.addBooking(anyLong(), any(BookingRequestDto.class)))
@@ -0,0 +1,131 @@
+package ru.practicum.shareit.booking;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dal.BookingRepository;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.State;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.dal.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.dal.UserRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A booking list renders the item and booker of every row; each list call must stay at the user lookup plus
+ * one query however many distinct items and bookers the page holds.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Booking list SQL statement count tests")
+class BookingListStatementCountTest {
+    private static final int ITEMS = 5;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User owner;
+    private User booker;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder().name("Owner").email("owner@example.com").build());
+        booker = userRepository.save(User.builder().name("Booker").email("booker@example.com").build());
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < ITEMS; i++) {
+            Item item = itemRepository.save(Item.builder()
+                    .name("Item " + i)
+                    .description("Description " + i)
+                    .available(true)
+                    .owner(owner)
+                    .build());
+            User otherBooker = userRepository.save(User.builder()
+                    .name("Booker " + i)
+                    .email("booker" + i + "@example.com")
+                    .build());
+            for (User user : List.of(booker, otherBooker)) {
+                bookingRepository.save(booking(item, user, now.minusDays(3), now.minusDays(2), Status.APPROVED));
+                bookingRepository.save(booking(item, user, now.minusHours(1), now.plusHours(1), Status.APPROVED));
+                bookingRepository.save(booking(item, user, now.plusDays(1), now.plusDays(2), Status.WAITING));
+                bookingRepository.save(booking(item, user, now.plusDays(3), now.plusDays(4), Status.REJECTED));
+            }
+        }
+        // Start from an empty persistence context so every lazy association would have to be loaded by SQL.
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @ParameterizedTest
+    @EnumSource(State.class)
+    void getBookingsByOwner_AnyState_RunsTwoStatements(State state) {
+        List<BookingResponseDto> bookings = bookingService.getBookingsByOwner(owner.getId(), state, null, 20)
+                .bookings();
+
+        assertThat(bookings).isNotEmpty()
+                .allSatisfy(booking -> assertThat(booking.getItem().getName()).startsWith("Item"))
+                .allSatisfy(booking -> assertThat(booking.getBooker().getName()).startsWith("Booker"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @ParameterizedTest
+    @EnumSource(State.class)
+    void getBookingsByBooker_AnyState_RunsTwoStatements(State state) {
+        List<BookingResponseDto> bookings = bookingService.getBookingsByBooker(booker.getId(), state, null, 20)
+                .bookings();
+
+        assertThat(bookings).isNotEmpty()
+                .allSatisfy(booking -> assertThat(booking.getItem().getName()).startsWith("Item"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @ParameterizedTest
+    @EnumSource(State.class)
+    void getBookingsByOwnerPage_AnyState_RunsTwoStatements(State state) {
+        bookingService.getBookingsByOwner(owner.getId(), state, null, 3);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private static Booking booking(Item item, User booker, LocalDateTime start, LocalDateTime end, Status status) {
+        return Booking.builder()
+                .item(item)
+                .booker(booker)
+                .start(start)
+                .end(end)
+                .status(status)
+                .build();
+    }
+}
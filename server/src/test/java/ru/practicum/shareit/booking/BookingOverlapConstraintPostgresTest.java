@@ -0,0 +1,90 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import ru.practicum.shareit.error.ErrorHandler;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+/**
+ * Starts the server against a real PostgreSQL database, the only platform that runs
+ * {@code schema-postgresql.sql}. Skipped where Docker is not available.
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Booking overlap constraint PostgreSQL tests")
+class BookingOverlapConstraintPostgresTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ErrorHandler errorHandler;
+
+    @Test
+    void overlappingActiveBookings_RejectedByDatabaseAsConflict() {
+        long owner = insertUser("owner@example.com");
+        long booker = insertUser("booker@example.com");
+        long item = jdbcTemplate.queryForObject("INSERT INTO items (id, name, available, owner_id) "
+                + "VALUES (nextval('items_seq'), 'Drill', true, ?) RETURNING id", Long.class, owner);
+        LocalDateTime start = LocalDateTime.of(2030, 1, 1, 10, 0);
+
+        insertBooking(item, booker, start, start.plusDays(2), "APPROVED");
+        insertBooking(item, booker, start.plusDays(1), start.plusDays(3), "REJECTED");
+
+        DataIntegrityViolationException overlap = catchThrowableOfType(
+                () -> insertBooking(item, booker, start.plusDays(1), start.plusDays(3), "WAITING"),
+                DataIntegrityViolationException.class);
+
+        assertThat(overlap).isNotNull();
+        assertThat(errorHandler.handleDataIntegrityViolation(overlap).getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+    }
+
+    @Test
+    void platformSchema_RerunAfterBaseSchema_KeepsConstraint() {
+        new ResourceDatabasePopulator(new ClassPathResource("schema-postgresql.sql")).execute(dataSource);
+
+        Integer constraints = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM pg_constraint "
+                + "WHERE conname = 'excl_bookings_item_period'", Integer.class);
+        assertThat(constraints).isEqualTo(1);
+    }
+
+    private long insertUser(String email) {
+        return jdbcTemplate.queryForObject("INSERT INTO users (id, name, email) "
+                + "VALUES (nextval('users_seq'), 'User', ?) RETURNING id", Long.class, email);
+    }
+
+    private void insertBooking(long item, long booker, LocalDateTime start, LocalDateTime end, String status) {
+        jdbcTemplate.update("INSERT INTO bookings (id, start_date, end_date, item_id, booker_id, status) "
+                + "VALUES (nextval('bookings_seq'), ?, ?, ?, ?, ?)", start, end, item, booker, status);
+    }
+}
@@ -0,0 +1,117 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dal.BookingRepository;
+import ru.practicum.shareit.booking.dto.BookingPage;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.State;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.dal.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.dal.UserRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Booking list keyset pagination integration tests")
+class BookingPaginationIntegrationTest {
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    private User owner;
+    private User booker;
+    private List<Booking> bookings;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder().name("Owner").email("owner@example.com").build());
+        booker = userRepository.save(User.builder().name("Booker").email("booker@example.com").build());
+        Item item = itemRepository.save(Item.builder()
+                .name("Drill")
+                .description("Cordless drill")
+                .available(true)
+                .owner(owner)
+                .build());
+
+        LocalDateTime base = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        bookings = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            // Pairs share a start so the id has to break ties between pages.
+            LocalDateTime start = base.plusDays(i / 2 - 2);
+            bookings.add(bookingRepository.save(Booking.builder()
+                    .item(item)
+                    .booker(booker)
+                    .start(start)
+                    .end(start.plusHours(1))
+                    .status(i % 3 == 0 ? Status.WAITING : Status.APPROVED)
+                    .build()));
+        }
+        bookings.sort(Comparator.comparing(Booking::getStart).thenComparing(Booking::getId).reversed());
+    }
+
+    @Test
+    void getBookingsByBooker_WalkingPages_ReturnsEveryBookingOnceInOrder() {
+        List<Long> ids = walk(cursor -> bookingService.getBookingsByBooker(booker.getId(), State.ALL, cursor, 2));
+
+        assertThat(ids).containsExactlyElementsOf(bookings.stream().map(Booking::getId).toList());
+    }
+
+    @Test
+    void getBookingsByOwner_WalkingPagesOfState_MatchesSingleLargePage() {
+        List<Long> expected = bookingService.getBookingsByOwner(owner.getId(), State.WAITING, null, 100).bookings().stream()
+                .map(BookingResponseDto::getId)
+                .toList();
+
+        List<Long> ids = walk(cursor -> bookingService.getBookingsByOwner(owner.getId(), State.WAITING, cursor, 1));
+
+        assertThat(expected).hasSize(3);
+        assertThat(ids).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void getBookingsByBooker_ExactlyOnePage_ReturnsNoCursor() {
+        BookingPage page = bookingService.getBookingsByBooker(booker.getId(), State.ALL, null, bookings.size());
+
+        assertThat(page.bookings()).hasSize(bookings.size());
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    private static List<Long> walk(Function<String, BookingPage> fetch) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            BookingPage page = fetch.apply(cursor);
+            page.bookings().forEach(booking -> ids.add(booking.getId()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+}
@@ -8,10 +8,14 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.dal.BookingRepository;
+import ru.practicum.shareit.booking.dto.BookingDecisionDto;
+import ru.practicum.shareit.booking.dto.BookingDecisionResultDto;
+import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.Status;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.error.exception.ConflictException;
 import ru.practicum.shareit.error.exception.NotFoundException;
 import ru.practicum.shareit.item.dal.ItemRepository;
 import ru.practicum.shareit.item.model.Item;
@@ -20,6 +24,7 @@ import ru.practicum.shareit.user.model.User;
 
 import java.nio.file.AccessDeniedException;
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
@@ -27,7 +32,7 @@ import static org.junit.jupiter.api.Assertions.*;
 @SpringBootTest
 @ActiveProfiles("test")
 @Transactional
-@DisplayName("BookingServiceImpl.updateStatus() integration tests")
+@DisplayName("BookingServiceImpl integration tests")
 public class BookingServiceImplIntegrationTest {
 
     @Autowired
@@ -88,6 +93,46 @@ public class BookingServiceImplIntegrationTest {
                 .build());
     }
 
+    @Test
+    void addBooking_OverlappingPeriod_ShouldThrowConflictException() {
+        BookingRequestDto overlapping = BookingRequestDto.builder()
+                .itemId(item.getId())
+                .start(now.plusDays(2))
+                .end(now.plusDays(4))
+                .build();
+
+        assertThrows(ConflictException.class, () -> bookingService.addBooking(anotherUser.getId(), overlapping));
+    }
+
+    @Test
+    void addBooking_OverlapsOnlyRejectedOrEarlierBookings_ShouldCreateBooking() throws AccessDeniedException {
+        bookingRepository.save(Booking.builder()
+                .start(now.minusDays(10))
+                .end(now.plusDays(5))
+                .status(Status.REJECTED)
+                .booker(booker)
+                .item(item)
+                .build());
+        BookingRequestDto adjacent = BookingRequestDto.builder()
+                .itemId(item.getId())
+                .start(now.plusDays(3))
+                .end(now.plusDays(5))
+                .build();
+
+        BookingResponseDto result = bookingService.addBooking(anotherUser.getId(), adjacent);
+
+        assertThat(result.getStatus()).isEqualTo(Status.WAITING);
+
+        bookingService.updateStatus(owner.getId(), waitingBooking.getId(), false);
+        BookingRequestDto freed = BookingRequestDto.builder()
+                .itemId(item.getId())
+                .start(now.plusDays(1))
+                .end(now.plusDays(2))
+                .build();
+
+        assertThat(bookingService.addBooking(anotherUser.getId(), freed).getStatus()).isEqualTo(Status.WAITING);
+    }
+
     @Test
     void updateStatus_ApprovedTrue_ShouldUpdateStatusToApproved() throws AccessDeniedException {
         Long bookingId = waitingBooking.getId();
@@ -132,6 +177,59 @@ public class BookingServiceImplIntegrationTest {
         assertThat(booking.getStatus()).isEqualTo(Status.WAITING);
     }
 
+    @Test
+    void decideBookings_MixedDecisions_ShouldUpdateOnlyOwnersWaitingBookings() {
+        Booking secondWaiting = bookingRepository.save(Booking.builder()
+                .start(now.plusDays(5))
+                .end(now.plusDays(6))
+                .status(Status.WAITING)
+                .booker(booker)
+                .item(item)
+                .build());
+        Booking approvedBooking = bookingRepository.save(Booking.builder()
+                .start(now.plusDays(8))
+                .end(now.plusDays(9))
+                .status(Status.APPROVED)
+                .booker(booker)
+                .item(item)
+                .build());
+        Item foreignItem = itemRepository.save(Item.builder()
+                .name("Foreign Item")
+                .description("Owned by someone else")
+                .available(true)
+                .owner(anotherUser)
+                .build());
+        Booking foreignBooking = bookingRepository.save(Booking.builder()
+                .start(now.plusDays(1))
+                .end(now.plusDays(2))
+                .status(Status.WAITING)
+                .booker(booker)
+                .item(foreignItem)
+                .build());
+
+        List<BookingDecisionResultDto> results = bookingService.decideBookings(owner.getId(), List.of(
+                new BookingDecisionDto(waitingBooking.getId(), true),
+                new BookingDecisionDto(secondWaiting.getId(), false),
+                new BookingDecisionDto(approvedBooking.getId(), false),
+                new BookingDecisionDto(foreignBooking.getId(), true),
+                new BookingDecisionDto(9999L, true)));
+
+        assertThat(results).extracting(BookingDecisionResultDto::getOutcome).containsExactly(
+                BookingDecisionResultDto.Outcome.APPLIED,
+                BookingDecisionResultDto.Outcome.APPLIED,
+                BookingDecisionResultDto.Outcome.ALREADY_PROCESSED,
+                BookingDecisionResultDto.Outcome.FORBIDDEN,
+                BookingDecisionResultDto.Outcome.NOT_FOUND);
+        assertThat(bookingRepository.findById(waitingBooking.getId()).orElseThrow().getStatus())
+                .isEqualTo(Status.APPROVED);
+        assertThat(bookingRepository.findById(secondWaiting.getId()).orElseThrow().getStatus())
+                .isEqualTo(Status.REJECTED);
+        assertThat(bookingRepository.findById(approvedBooking.getId()).orElseThrow().getStatus())
+                .isEqualTo(Status.APPROVED);
+        assertThat(bookingRepository.findById(foreignBooking.getId()).orElseThrow().getStatus())
+                .isEqualTo(Status.WAITING);
+    }
+
     @Test
     void updateStatus_NonExistentBooking_ShouldThrowNotFoundException() {
         Long nonExistentBookingId = 9999L;
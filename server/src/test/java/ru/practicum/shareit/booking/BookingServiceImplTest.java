@@ -7,7 +7,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import ru.practicum.shareit.booking.dal.BookingRepository;
+import ru.practicum.shareit.booking.dto.BookingCursor;
+import ru.practicum.shareit.booking.dto.BookingDecisionDto;
+import ru.practicum.shareit.booking.dto.BookingDecisionResultDto;
+import ru.practicum.shareit.booking.dto.BookingPage;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.mapper.BookingMapper;
@@ -15,11 +20,15 @@ import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.State;
 import ru.practicum.shareit.booking.model.Status;
 import ru.practicum.shareit.booking.service.BookingServiceImpl;
+import ru.practicum.shareit.error.exception.ConflictException;
 import ru.practicum.shareit.error.exception.NotFoundException;
+import ru.practicum.shareit.error.exception.ValidationException;
 import ru.practicum.shareit.item.dal.ItemRepository;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.dal.UserRepository;
 import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.item.service.BookingPointerService;
+import ru.practicum.shareit.item.service.ItemCalendarCache;
 
 import java.nio.file.AccessDeniedException;
 import java.time.LocalDateTime;
@@ -49,6 +58,12 @@ class BookingServiceImplTest {
     @Mock
     private BookingMapper bookingMapper;
 
+    @Mock
+    private BookingPointerService bookingPointerService;
+
+    @Mock
+    private ItemCalendarCache itemCalendarCache;
+
     @InjectMocks
     private BookingServiceImpl bookingService;
 
@@ -114,7 +129,7 @@ class BookingServiceImplTest {
     @Test
     void addBooking_ValidData_ShouldCreateBooking() {
         when(userRepository.findById(1L)).thenReturn(Optional.of(booker));
-        when(itemRepository.findById(10L)).thenReturn(Optional.of(item));
+        when(itemRepository.findWithLockById(10L)).thenReturn(Optional.of(item));
         when(bookingRepository.save(any(Booking.class))).thenReturn(booking);
         when(bookingMapper.toBookingResponseDto(booking)).thenReturn(bookingResponseDto);
 
@@ -125,7 +140,7 @@ class BookingServiceImplTest {
         assertThat(result.getStatus()).isEqualTo(Status.WAITING);
 
         verify(userRepository, times(1)).findById(1L);
-        verify(itemRepository, times(1)).findById(10L);
+        verify(itemRepository, times(1)).findWithLockById(10L);
         verify(bookingRepository, times(1)).save(any(Booking.class));
         verify(bookingMapper, times(1)).toBookingResponseDto(booking);
     }
@@ -140,7 +155,7 @@ class BookingServiceImplTest {
                 .hasMessageContaining("999");
 
         verify(userRepository, times(1)).findById(999L);
-        verify(itemRepository, never()).findById(anyLong());
+        verify(itemRepository, never()).findWithLockById(anyLong());
         verify(bookingRepository, never()).save(any());
     }
 
@@ -155,7 +170,7 @@ class BookingServiceImplTest {
                 .build();
 
         when(userRepository.findById(1L)).thenReturn(Optional.of(booker));
-        when(itemRepository.findById(nonExistentItemId)).thenReturn(Optional.empty());
+        when(itemRepository.findWithLockById(nonExistentItemId)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> bookingService.addBooking(1L, requestDtoWithNonExistentItem))
                 .isInstanceOf(NotFoundException.class)
@@ -163,21 +178,21 @@ class BookingServiceImplTest {
                 .hasMessageContaining(nonExistentItemId.toString());
 
         verify(userRepository, times(1)).findById(1L);
-        verify(itemRepository, times(1)).findById(nonExistentItemId);
+        verify(itemRepository, times(1)).findWithLockById(nonExistentItemId);
         verify(bookingRepository, never()).save(any());
     }
 
     @Test
     void addBooking_OwnerBookingOwnItem_ShouldThrowException() {
         when(userRepository.findById(2L)).thenReturn(Optional.of(owner));
-        when(itemRepository.findById(10L)).thenReturn(Optional.of(item));
+        when(itemRepository.findWithLockById(10L)).thenReturn(Optional.of(item));
 
         assertThatThrownBy(() -> bookingService.addBooking(2L, bookingRequestDto))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Owner cannot be the same as booker");
 
         verify(userRepository, times(1)).findById(2L);
-        verify(itemRepository, times(1)).findById(10L);
+        verify(itemRepository, times(1)).findWithLockById(10L);
         verify(bookingRepository, never()).save(any());
     }
 
@@ -185,22 +200,35 @@ class BookingServiceImplTest {
     void addBooking_ItemNotAvailable_ShouldThrownException() {
         item.setAvailable(false);
         when(userRepository.findById(1L)).thenReturn(Optional.of(booker));
-        when(itemRepository.findById(10L)).thenReturn(Optional.of(item));
+        when(itemRepository.findWithLockById(10L)).thenReturn(Optional.of(item));
 
         assertThatThrownBy(() -> bookingService.addBooking(1L, bookingRequestDto))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Item is not available for booking");
 
         verify(userRepository, times(1)).findById(1L);
-        verify(itemRepository, times(1)).findById(10L);
+        verify(itemRepository, times(1)).findWithLockById(10L);
         verify(bookingRepository, never()).save(any());
     }
 
+    @Test
+    void addBooking_OverlapsExistingBooking_ShouldThrowConflictException() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(booker));
+        when(itemRepository.findWithLockById(10L)).thenReturn(Optional.of(item));
+        when(bookingRepository.existsOverlappingBooking(10L, start, end)).thenReturn(true);
+
+        assertThatThrownBy(() -> bookingService.addBooking(1L, bookingRequestDto))
+                .isInstanceOf(ConflictException.class)
+                .hasMessage("Item is already booked for the requested period");
+
+        verify(bookingRepository, never()).save(any(Booking.class));
+    }
+
     @Test
     void updateStatus_Approved_ShouldUpdateToApproved() throws AccessDeniedException {
         booking.setStatus(Status.WAITING);
         when(bookingRepository.findByIdWithItemAndOwner(100L)).thenReturn(Optional.of(booking));
-        when(bookingRepository.save(booking)).thenReturn(booking);
+        when(bookingRepository.saveAndFlush(booking)).thenReturn(booking);
         when(bookingMapper.toBookingResponseDto(booking)).thenReturn(bookingResponseDto);
 
         BookingResponseDto result = bookingService.updateStatus(2L, 100L, true);
@@ -209,15 +237,17 @@ class BookingServiceImplTest {
         assertThat(booking.getStatus()).isEqualTo(Status.APPROVED);
 
         verify(bookingRepository, times(1)).findByIdWithItemAndOwner(100L);
-        verify(bookingRepository, times(1)).save(booking);
+        verify(bookingRepository, times(1)).saveAndFlush(booking);
         verify(bookingMapper, times(1)).toBookingResponseDto(booking);
+        verify(bookingPointerService).refresh(List.of(item.getId()));
+        verify(itemCalendarCache).invalidate(item.getId());
     }
 
     @Test
     void updateStatus_Rejected_ShouldUpdateToRejected() throws AccessDeniedException {
         booking.setStatus(Status.WAITING);
         when(bookingRepository.findByIdWithItemAndOwner(100L)).thenReturn(Optional.of(booking));
-        when(bookingRepository.save(booking)).thenReturn(booking);
+        when(bookingRepository.saveAndFlush(booking)).thenReturn(booking);
         when(bookingMapper.toBookingResponseDto(booking)).thenReturn(bookingResponseDto);
 
         BookingResponseDto result = bookingService.updateStatus(2L, 100L, false);
@@ -226,7 +256,8 @@ class BookingServiceImplTest {
         assertThat(booking.getStatus()).isEqualTo(Status.REJECTED);
 
         verify(bookingRepository, times(1)).findByIdWithItemAndOwner(100L);
-        verify(bookingRepository, times(1)).save(booking);
+        verify(bookingRepository, times(1)).saveAndFlush(booking);
+        verifyNoInteractions(bookingPointerService);
     }
 
     @Test
@@ -341,73 +372,189 @@ class BookingServiceImplTest {
     }
 
     @Test
-    void getBookingsByBooker_ShouldReturnSortedBookings() {
-        Booking pastBooking = Booking.builder().id(101L).start(now.minusDays(5)).build();
+    void getBookingsByBooker_FirstPage_ShouldQueryOneRowMoreThanSize() {
         Booking futureBooking = Booking.builder().id(102L).start(now.plusDays(5)).build();
-        List<Booking> bookings = new ArrayList<>(List.of(pastBooking, futureBooking));
+        Booking pastBooking = Booking.builder().id(101L).start(now.minusDays(5)).build();
+        List<Booking> bookings = List.of(futureBooking, pastBooking);
 
         when(userRepository.findById(1L)).thenReturn(Optional.of(booker));
-        when(bookingRepository.findAllByBookerId(1L)).thenReturn(bookings);
+        when(bookingRepository.findPageByBookerId(1L, BookingCursor.FIRST.start(), BookingCursor.FIRST.id(),
+                Limit.of(21))).thenReturn(bookings);
         when(bookingMapper.toBookingResponseDto(any())).thenReturn(bookingResponseDto);
 
-        List<BookingResponseDto> result = bookingService.getBookingsByBooker(1L, State.ALL);
+        BookingPage page = bookingService.getBookingsByBooker(1L, State.ALL, null, 20);
 
-        assertThat(result).hasSize(2);
+        assertThat(page.bookings()).hasSize(2);
+        assertThat(page.nextCursor()).isNull();
         verify(userRepository, times(1)).findById(1L);
-        verify(bookingRepository, times(1)).findAllByBookerId(1L);
         verify(bookingMapper, times(2)).toBookingResponseDto(any());
     }
 
     @Test
-    void getBookingsByOwner_ShouldReturnSortedBookings() {
-        List<Booking> bookings = new ArrayList<>(List.of(
-                Booking.builder().id(101L).start(now.minusDays(10)).build(),
-                Booking.builder().id(102L).start(now.minusDays(1)).build()
-        ));
+    void getBookingsByOwner_ShouldKeepRepositoryOrder() {
+        List<Booking> bookings = List.of(
+                Booking.builder().id(102L).start(now.minusDays(1)).build(),
+                Booking.builder().id(101L).start(now.minusDays(10)).build()
+        );
 
         when(userRepository.findById(2L)).thenReturn(Optional.of(owner));
-        when(bookingRepository.findAllByOwnerId(2L)).thenReturn(bookings);
+        when(bookingRepository.findPageByOwnerId(eq(2L), any(), any(), eq(Limit.of(21)))).thenReturn(bookings);
         when(bookingMapper.toBookingResponseDto(any())).thenAnswer(invocation -> {
             Booking b = invocation.getArgument(0);
             return BookingResponseDto.builder().id(b.getId()).build();
         });
 
-        List<BookingResponseDto> result = bookingService.getBookingsByOwner(2L, State.ALL);
+        List<BookingResponseDto> result = bookingService.getBookingsByOwner(2L, State.ALL, null, 20).bookings();
 
         assertThat(result).hasSize(2);
         assertThat(result.get(0).getId()).isEqualTo(102L);
         assertThat(result.get(1).getId()).isEqualTo(101L);
     }
 
+    @Test
+    void getBookingsByBooker_MoreRowsThanPage_ReturnsCursorAfterLastBooking() {
+        Booking first = Booking.builder().id(103L).start(now.plusDays(3)).build();
+        Booking second = Booking.builder().id(102L).start(now.plusDays(2)).build();
+        Booking extra = Booking.builder().id(101L).start(now.plusDays(1)).build();
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(booker));
+        when(bookingRepository.findFuturePageByBookerId(eq(1L), any(), eq(BookingCursor.FIRST.start()),
+                eq(BookingCursor.FIRST.id()), eq(Limit.of(3)))).thenReturn(List.of(first, second, extra));
+        when(bookingMapper.toBookingResponseDto(any())).thenReturn(bookingResponseDto);
+
+        BookingPage page = bookingService.getBookingsByBooker(1L, State.FUTURE, null, 2);
+
+        assertThat(page.bookings()).hasSize(2);
+        assertThat(page.nextCursor()).isNotNull();
+        assertThat(BookingCursor.decode(page.nextCursor())).isEqualTo(new BookingCursor(second.getStart(), 102L));
+    }
+
+    @Test
+    void decideBookings_MixedDecisions_ReportsOutcomePerBooking() {
+        Booking foreignBooking = Booking.builder()
+                .id(101L)
+                .item(Item.builder().id(11L).owner(booker).build())
+                .status(Status.WAITING)
+                .build();
+        Booking processedBooking = Booking.builder()
+                .id(102L)
+                .item(item)
+                .status(Status.REJECTED)
+                .build();
+        when(bookingRepository.findAllWithItemForUpdate(any()))
+                .thenReturn(List.of(booking, foreignBooking, processedBooking));
+        when(bookingRepository.updateWaitingStatus(List.of(100L), Status.APPROVED)).thenReturn(1);
+
+        List<BookingDecisionResultDto> results = bookingService.decideBookings(2L, List.of(
+                new BookingDecisionDto(100L, true),
+                new BookingDecisionDto(101L, true),
+                new BookingDecisionDto(102L, true),
+                new BookingDecisionDto(999L, false),
+                new BookingDecisionDto(100L, false)));
+
+        assertThat(results).extracting(BookingDecisionResultDto::getOutcome).containsExactly(
+                BookingDecisionResultDto.Outcome.APPLIED,
+                BookingDecisionResultDto.Outcome.FORBIDDEN,
+                BookingDecisionResultDto.Outcome.ALREADY_PROCESSED,
+                BookingDecisionResultDto.Outcome.NOT_FOUND,
+                BookingDecisionResultDto.Outcome.ALREADY_PROCESSED);
+        assertThat(results).extracting(BookingDecisionResultDto::getStatus)
+                .containsExactly(Status.APPROVED, null, Status.REJECTED, null, Status.APPROVED);
+        verify(bookingRepository, times(1)).findAllWithItemForUpdate(any());
+        verify(bookingRepository, times(1)).updateWaitingStatus(any(), any());
+        verify(bookingPointerService).refresh(List.of(10L));
+        verify(itemCalendarCache).invalidate(10L);
+    }
+
+    @Test
+    void decideBookings_OnlyRejections_ShouldNotRefreshPointers() {
+        when(bookingRepository.findAllWithItemForUpdate(any())).thenReturn(List.of(booking));
+        when(bookingRepository.updateWaitingStatus(List.of(100L), Status.REJECTED)).thenReturn(1);
+
+        List<BookingDecisionResultDto> results = bookingService.decideBookings(2L,
+                List.of(new BookingDecisionDto(100L, false)));
+
+        assertThat(results).containsExactly(new BookingDecisionResultDto(100L,
+                BookingDecisionResultDto.Outcome.APPLIED, Status.REJECTED));
+        verifyNoInteractions(bookingPointerService, itemCalendarCache);
+    }
+
+    @Test
+    void decideBookings_UpdateMissesLockedBooking_ShouldThrowIllegalStateException() {
+        when(bookingRepository.findAllWithItemForUpdate(any())).thenReturn(List.of(booking));
+        when(bookingRepository.updateWaitingStatus(List.of(100L), Status.APPROVED)).thenReturn(0);
+
+        assertThatThrownBy(() -> bookingService.decideBookings(2L, List.of(new BookingDecisionDto(100L, true))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void decideBookings_InvalidDecisions_ShouldThrowValidationException() {
+        List<BookingDecisionDto> tooMany = new ArrayList<>();
+        for (long id = 1; id <= 101; id++) {
+            tooMany.add(new BookingDecisionDto(id, true));
+        }
+
+        assertThatThrownBy(() -> bookingService.decideBookings(2L, tooMany))
+                .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> bookingService.decideBookings(2L, List.of(new BookingDecisionDto(100L, null))))
+                .isInstanceOf(ValidationException.class);
+        verifyNoInteractions(bookingRepository);
+    }
+
+    @Test
+    void getBookingsByOwner_LastPage_ReturnsNoCursor() {
+        BookingCursor cursor = new BookingCursor(now, 50L);
+        Booking booking = Booking.builder().id(40L).start(now.minusDays(1)).build();
+
+        when(userRepository.findById(2L)).thenReturn(Optional.of(owner));
+        when(bookingRepository.findPageByOwnerIdAndStatus(2L, Status.WAITING, now, 50L, Limit.of(3)))
+                .thenReturn(List.of(booking));
+        when(bookingMapper.toBookingResponseDto(any())).thenReturn(bookingResponseDto);
+
+        BookingPage page = bookingService.getBookingsByOwner(2L, State.WAITING, cursor.encode(), 2);
+
+        assertThat(page.bookings()).hasSize(1);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void getBookingsByBooker_InvalidCursor_ThrowsValidationException() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(booker));
+
+        assertThatThrownBy(() -> bookingService.getBookingsByBooker(1L, State.ALL, "not-a-cursor", 10))
+                .isInstanceOf(ValidationException.class);
+        verifyNoInteractions(bookingRepository);
+    }
+
     @Test
     void getBookingsByBooker_AllStates_ShouldCallCorrectRepositoryMethods() {
         List<Booking> emptyList = new ArrayList<>();
 
         when(userRepository.findById(1L)).thenReturn(Optional.of(booker));
-        when(bookingRepository.findAllByBookerId(1L)).thenReturn(emptyList);
-        when(bookingRepository.findAllByBookerIdAndStartBeforeAndEndAfter(eq(1L), any(), any())).thenReturn(emptyList);
-        when(bookingRepository.findAllByBookerIdAndEndBefore(eq(1L), any())).thenReturn(emptyList);
-        when(bookingRepository.findAllByBookerIdAndStartAfter(eq(1L), any())).thenReturn(emptyList);
-        when(bookingRepository.findAllByBookerIdAndStatus(1L, Status.WAITING)).thenReturn(emptyList);
-        when(bookingRepository.findAllByBookerIdAndStatus(1L, Status.REJECTED)).thenReturn(emptyList);
+        when(bookingRepository.findPageByBookerId(eq(1L), any(), any(), any())).thenReturn(emptyList);
+        when(bookingRepository.findCurrentPageByBookerId(eq(1L), any(), any(), any(), any())).thenReturn(emptyList);
+        when(bookingRepository.findPastPageByBookerId(eq(1L), any(), any(), any(), any())).thenReturn(emptyList);
+        when(bookingRepository.findFuturePageByBookerId(eq(1L), any(), any(), any(), any())).thenReturn(emptyList);
+        when(bookingRepository.findPageByBookerIdAndStatus(eq(1L), any(), any(), any(), any())).thenReturn(emptyList);
 
-        bookingService.getBookingsByBooker(1L, State.ALL);
-        verify(bookingRepository).findAllByBookerId(1L);
+        bookingService.getBookingsByBooker(1L, State.ALL, null, 20);
+        verify(bookingRepository).findPageByBookerId(eq(1L), any(), any(), any());
 
-        bookingService.getBookingsByBooker(1L, State.CURRENT);
-        verify(bookingRepository).findAllByBookerIdAndStartBeforeAndEndAfter(eq(1L), any(), any());
+        bookingService.getBookingsByBooker(1L, State.CURRENT, null, 20);
+        verify(bookingRepository).findCurrentPageByBookerId(eq(1L), any(), any(), any(), any());
 
-        bookingService.getBookingsByBooker(1L, State.PAST);
-        verify(bookingRepository).findAllByBookerIdAndEndBefore(eq(1L), any());
+        bookingService.getBookingsByBooker(1L, State.PAST, null, 20);
+        verify(bookingRepository).findPastPageByBookerId(eq(1L), any(), any(), any(), any());
 
-        bookingService.getBookingsByBooker(1L, State.FUTURE);
-        verify(bookingRepository).findAllByBookerIdAndStartAfter(eq(1L), any());
+        bookingService.getBookingsByBooker(1L, State.FUTURE, null, 20);
+        verify(bookingRepository).findFuturePageByBookerId(eq(1L), any(), any(), any(), any());
 
-        bookingService.getBookingsByBooker(1L, State.WAITING);
-        verify(bookingRepository).findAllByBookerIdAndStatus(1L, Status.WAITING);
+        bookingService.getBookingsByBooker(1L, State.WAITING, null, 20);
+        verify(bookingRepository).findPageByBookerIdAndStatus(eq(1L), eq(Status.WAITING), any(), any(), any());
 
-        bookingService.getBookingsByBooker(1L, State.REJECTED);
-        verify(bookingRepository).findAllByBookerIdAndStatus(1L, Status.REJECTED);
+        bookingService.getBookingsByBooker(1L, State.REJECTED, null, 20);
+        verify(bookingRepository).findPageByBookerIdAndStatus(eq(1L), eq(Status.REJECTED), any(), any(), any());
 
         verify(userRepository, times(6)).findById(1L);
     }
@@ -415,33 +562,32 @@ class BookingServiceImplTest {
     @Test
     void getBookingsByOwner_AllStates_ShouldCallCorrectRepositoryMethods() {
         List<Booking> emptyList = new ArrayList<>();
-        
+
         when(userRepository.findById(2L)).thenReturn(Optional.of(owner));
-        when(bookingRepository.findAllByOwnerId(2L)).thenReturn(emptyList);
-        when(bookingRepository.findAllByOwnerIdAndStartBeforeAndEndAfter(eq(2L), any())).thenReturn(emptyList);
-        when(bookingRepository.findAllByOwnerIdAndEndBefore(eq(2L), any())).thenReturn(emptyList);
-        when(bookingRepository.findAllByOwnerIdAndStartAfter(eq(2L), any())).thenReturn(emptyList);
-        when(bookingRepository.findAllByOwnerIdAndStatus(2L, Status.WAITING)).thenReturn(emptyList);
-        when(bookingRepository.findAllByOwnerIdAndStatus(2L, Status.REJECTED)).thenReturn(emptyList);
+        when(bookingRepository.findPageByOwnerId(eq(2L), any(), any(), any())).thenReturn(emptyList);
+        when(bookingRepository.findCurrentPageByOwnerId(eq(2L), any(), any(), any(), any())).thenReturn(emptyList);
+        when(bookingRepository.findPastPageByOwnerId(eq(2L), any(), any(), any(), any())).thenReturn(emptyList);
+        when(bookingRepository.findFuturePageByOwnerId(eq(2L), any(), any(), any(), any())).thenReturn(emptyList);
+        when(bookingRepository.findPageByOwnerIdAndStatus(eq(2L), any(), any(), any(), any())).thenReturn(emptyList);
 
-        bookingService.getBookingsByOwner(2L, State.ALL);
-        verify(bookingRepository).findAllByOwnerId(2L);
+        bookingService.getBookingsByOwner(2L, State.ALL, null, 20);
+        verify(bookingRepository).findPageByOwnerId(eq(2L), any(), any(), any());
 
-        bookingService.getBookingsByOwner(2L, State.CURRENT);
-        verify(bookingRepository).findAllByOwnerIdAndStartBeforeAndEndAfter(eq(2L), any());
+        bookingService.getBookingsByOwner(2L, State.CURRENT, null, 20);
+        verify(bookingRepository).findCurrentPageByOwnerId(eq(2L), any(), any(), any(), any());
 
-        bookingService.getBookingsByOwner(2L, State.PAST);
-        verify(bookingRepository).findAllByOwnerIdAndEndBefore(eq(2L), any());
+        bookingService.getBookingsByOwner(2L, State.PAST, null, 20);
+        verify(bookingRepository).findPastPageByOwnerId(eq(2L), any(), any(), any(), any());
 
-        bookingService.getBookingsByOwner(2L, State.FUTURE);
-        verify(bookingRepository).findAllByOwnerIdAndStartAfter(eq(2L), any());
+        bookingService.getBookingsByOwner(2L, State.FUTURE, null, 20);
+        verify(bookingRepository).findFuturePageByOwnerId(eq(2L), any(), any(), any(), any());
 
-        bookingService.getBookingsByOwner(2L, State.WAITING);
-        verify(bookingRepository).findAllByOwnerIdAndStatus(2L, Status.WAITING);
+        bookingService.getBookingsByOwner(2L, State.WAITING, null, 20);
+        verify(bookingRepository).findPageByOwnerIdAndStatus(eq(2L), eq(Status.WAITING), any(), any(), any());
 
-        bookingService.getBookingsByOwner(2L, State.REJECTED);
-        verify(bookingRepository).findAllByOwnerIdAndStatus(2L, Status.REJECTED);
+        bookingService.getBookingsByOwner(2L, State.REJECTED, null, 20);
+        verify(bookingRepository).findPageByOwnerIdAndStatus(eq(2L), eq(Status.REJECTED), any(), any(), any());
 
         verify(userRepository, times(6)).findById(2L);
     }
-}
\ No newline at end of file
+}
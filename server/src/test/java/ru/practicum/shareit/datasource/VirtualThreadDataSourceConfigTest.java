@@ -0,0 +1,34 @@
+package ru.practicum.shareit.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.threads.virtual.enabled=true")
+@ActiveProfiles("test")
+class VirtualThreadDataSourceConfigTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void dataSource_VirtualThreadsEnabled_ShouldBeBoundedByHikariPoolSize() throws Exception {
+        assertThat(dataSource).isInstanceOf(ConnectionLimitingDataSource.class);
+
+        HikariDataSource hikariDataSource = dataSource.unwrap(HikariDataSource.class);
+        ConnectionLimitingDataSource limitingDataSource = (ConnectionLimitingDataSource) dataSource;
+        assertThat(limitingDataSource.getAvailablePermits()).isEqualTo(hikariDataSource.getMaximumPoolSize());
+        assertThat(meterRegistry.get("shareit.jdbc.connection-limit.available").gauge().value())
+                .isEqualTo(hikariDataSource.getMaximumPoolSize());
+    }
+}
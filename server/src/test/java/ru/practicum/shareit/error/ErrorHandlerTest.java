@@ -0,0 +1,39 @@
+package ru.practicum.shareit.error;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ErrorHandler unit tests")
+class ErrorHandlerTest {
+    private final ErrorHandler errorHandler = new ErrorHandler();
+
+    @Test
+    void dataIntegrityViolation_ExclusionConstraint_ReturnsConflict() {
+        SQLException cause = new SQLException("conflicting key value violates exclusion constraint "
+                + "\"excl_bookings_item_period\"", "23P01");
+
+        ResponseEntity<ErrorResponse> response = errorHandler.handleDataIntegrityViolation(
+                new DataIntegrityViolationException("could not execute statement", cause));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody().getMessage()).isEqualTo("Item is already booked for the requested period");
+    }
+
+    @Test
+    void dataIntegrityViolation_OtherConstraint_ReturnsBadRequest() {
+        SQLException cause = new SQLException("duplicate key value violates unique constraint \"uq_user_email\"",
+                "23505");
+
+        ResponseEntity<ErrorResponse> response = errorHandler.handleDataIntegrityViolation(
+                new DataIntegrityViolationException("could not execute statement", cause));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+}
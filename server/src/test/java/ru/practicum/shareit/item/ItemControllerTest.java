@@ -13,6 +13,7 @@ import ru.practicum.shareit.item.dto.*;
 import ru.practicum.shareit.item.service.ItemService;
 
 import java.nio.file.AccessDeniedException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -164,11 +165,37 @@ class ItemControllerTest {
                 .andExpect(jsonPath("$.name").value("Test Item"));
     }
 
+    @Test
+    void getById_MatchingIfNoneMatch_ReturnsNotModified() throws Exception {
+        when(itemService.getItemETag(1L, 1L)).thenReturn("1-0-0-0-0-0");
+
+        mockMvc.perform(get("/items/1")
+                        .header("X-Sharer-User-Id", 1L)
+                        .header("If-None-Match", "\"1-0-0-0-0-0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"1-0-0-0-0-0\""));
+
+        verify(itemService, never()).getItemById(anyLong(), anyLong());
+    }
+
+    @Test
+    void getById_StaleIfNoneMatch_ReturnsItem() throws Exception {
+        when(itemService.getItemETag(1L, 1L)).thenReturn("1-1-0-0-0-0");
+        when(itemService.getItemById(1L, 1L)).thenReturn(itemWithDetails);
+
+        mockMvc.perform(get("/items/1")
+                        .header("X-Sharer-User-Id", 1L)
+                        .header("If-None-Match", "\"1-0-0-0-0-0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-1-0-0-0-0\""))
+                .andExpect(jsonPath("$.id").value(1L));
+    }
+
     @Test
     void search_ValidText_ReturnsItems() throws Exception {
         List<ItemResponseDto> items = List.of(itemResponseDto);
 
-        when(itemService.searchItems(anyString()))
+        when(itemService.searchItems(anyString(), isNull(), isNull()))
                 .thenReturn(items);
 
         mockMvc.perform(get("/items/search")
@@ -178,6 +205,20 @@ class ItemControllerTest {
                 .andExpect(jsonPath("$[0].name").value("Test Item"));
     }
 
+    @Test
+    void search_WithWindow_PassesWindowToService() throws Exception {
+        LocalDateTime start = LocalDateTime.of(2030, 1, 5, 10, 0);
+        when(itemService.searchItems("drill", start, start.plusHours(4)))
+                .thenReturn(List.of(itemResponseDto));
+
+        mockMvc.perform(get("/items/search")
+                        .param("text", "drill")
+                        .param("start", "2030-01-05T10:00:00")
+                        .param("end", "2030-01-05T14:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1L));
+    }
+
     @Test
     void getItemsForOwner_ValidUserId_ReturnsItems() throws Exception {
         List<ItemWithBookingsAndComments> items = List.of(itemWithDetails);
@@ -206,4 +247,27 @@ class ItemControllerTest {
                 .andExpect(jsonPath("$.text").value("Test comment"))
                 .andExpect(jsonPath("$.authorName").value("Test User"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getAvailability_ValidWindow_ReturnsRuns() throws Exception {
+        LocalDateTime from = LocalDateTime.of(2030, 1, 1, 0, 0);
+        LocalDateTime to = from.plusDays(1);
+        when(itemService.getItemAvailability(1L, from, to, Duration.ofHours(6)))
+                .thenReturn(ItemAvailabilityDto.builder()
+                        .itemId(1L)
+                        .from(from)
+                        .to(to)
+                        .granularity("PT6H")
+                        .slots(4)
+                        .runs(List.of(1, 2, 1))
+                        .build());
+
+        mockMvc.perform(get("/items/1/availability")
+                        .param("from", "2030-01-01T00:00:00")
+                        .param("to", "2030-01-02T00:00:00")
+                        .param("granularity", "PT6H"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.slots").value(4))
+                .andExpect(jsonPath("$.runs[1]").value(2));
+    }
+}
@@ -1,25 +1,33 @@
 package ru.practicum.shareit.item;
 
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.TestTransaction;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.dal.BookingRepository;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.booking.service.BookingService;
 import ru.practicum.shareit.item.dal.CommentRepository;
 import ru.practicum.shareit.item.dal.ItemRepository;
+import ru.practicum.shareit.item.dto.ItemResponseDto;
 import ru.practicum.shareit.item.dto.ItemWithBookingsAndComments;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.BookingPointerRoller;
+import ru.practicum.shareit.item.service.BookingPointerService;
 import ru.practicum.shareit.item.service.ItemServiceImpl;
 import ru.practicum.shareit.user.dal.UserRepository;
 import ru.practicum.shareit.user.model.User;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -45,6 +53,18 @@ public class ItemServiceImplIntegrationTest {
     @Autowired
     private CommentRepository commentRepository;
 
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingPointerService bookingPointerService;
+
+    @Autowired
+    private BookingPointerRoller bookingPointerRoller;
+
+    @Autowired
+    private EntityManager entityManager;
+
     private User owner;
     private User booker1;
     private User booker2;
@@ -156,4 +176,199 @@ public class ItemServiceImplIntegrationTest {
         assertThat(item2Dto.getNextBooking()).isNull();
         assertThat(item2Dto.getComments()).hasSize(1);
     }
-}
\ No newline at end of file
+
+    @Test
+    void lastAndNextBooking_whenItemHasLongHistory_shouldPickNearestBookings() {
+        LocalDateTime now = LocalDateTime.now();
+        Booking latestPast = null;
+        Booking earliestFuture = null;
+        for (int i = 1; i <= 5; i++) {
+            Booking past = bookingRepository.save(Booking.builder()
+                    .start(now.minusDays(i * 2L))
+                    .end(now.minusDays(i * 2L - 1))
+                    .item(item1)
+                    .booker(booker1)
+                    .status(Status.APPROVED)
+                    .build());
+            Booking future = bookingRepository.save(Booking.builder()
+                    .start(now.plusDays(i * 2L))
+                    .end(now.plusDays(i * 2L + 1))
+                    .item(item1)
+                    .booker(booker2)
+                    .status(Status.APPROVED)
+                    .build());
+            if (i == 1) {
+                latestPast = past;
+                earliestFuture = future;
+            }
+        }
+        bookingRepository.save(Booking.builder()
+                .start(now.plusHours(1))
+                .end(now.plusHours(2))
+                .item(item2)
+                .booker(booker1)
+                .status(Status.APPROVED)
+                .build());
+
+        ItemWithBookingsAndComments single = itemService.getItemById(owner.getId(), item1.getId());
+        List<ItemWithBookingsAndComments> all = itemService.getItemForOwner(owner.getId());
+        ItemWithBookingsAndComments fromList = all.stream()
+                .filter(dto -> dto.getId().equals(item1.getId()))
+                .findFirst()
+                .orElseThrow();
+
+        for (ItemWithBookingsAndComments dto : List.of(single, fromList)) {
+            assertThat(dto.getLastBooking().getId()).isEqualTo(latestPast.getId());
+            assertThat(dto.getLastBooking().getBookerId()).isEqualTo(booker1.getId());
+            assertThat(dto.getNextBooking().getId()).isEqualTo(earliestFuture.getId());
+            assertThat(dto.getNextBooking().getBookerId()).isEqualTo(booker2.getId());
+        }
+        assertThat(all.stream().filter(dto -> dto.getId().equals(item2.getId())).findFirst().orElseThrow()
+                .getLastBooking()).isNull();
+    }
+
+    @Test
+    void bookingPointers_whenRefreshed_shouldMatchQueriesWithoutTouchingVersion() {
+        // Timestamps round to microseconds in the database.
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        Booking last = saveBooking(item1, booker1, now.minusDays(3), now.minusDays(2), Status.APPROVED);
+        saveBooking(item1, booker2, now.minusDays(6), now.minusDays(5), Status.APPROVED);
+        saveBooking(item1, booker2, now.minusDays(1), now.minusHours(1), Status.REJECTED);
+        Booking current = saveBooking(item1, booker2, now.minusHours(2), now.plusHours(2), Status.APPROVED);
+        Booking next = saveBooking(item1, booker1, now.plusDays(1), now.plusDays(2), Status.APPROVED);
+        saveBooking(item1, booker2, now.plusHours(3), now.plusHours(4), Status.WAITING);
+        List<ItemWithBookingsAndComments> fromQueries = itemService.getItemForOwner(owner.getId());
+        Long version = item1.getVersion();
+
+        bookingPointerService.refresh(List.of(item1.getId(), item2.getId()));
+        entityManager.flush();
+        entityManager.clear();
+
+        Item reloaded = itemRepository.findById(item1.getId()).orElseThrow();
+        assertThat(reloaded.getVersion()).isEqualTo(version);
+        assertThat(reloaded.getLastApprovedBooking().getBookingId()).isEqualTo(last.getId());
+        assertThat(reloaded.getNextApprovedBooking().getBookingId()).isEqualTo(next.getId());
+        assertThat(reloaded.getBookingPointersValidUntil()).isEqualTo(current.getEnd());
+        assertThat(BookingPointerService.isFresh(reloaded, now)).isTrue();
+        assertThat(itemService.getItemForOwner(owner.getId())).usingRecursiveComparison().isEqualTo(fromQueries);
+        assertThat(itemService.getItemById(owner.getId(), item1.getId())).usingRecursiveComparison()
+                .isEqualTo(fromQueries.getFirst());
+    }
+
+    @Test
+    void bookingPointers_whenStale_shouldFallBackToQueriesUntilRolled() {
+        LocalDateTime now = LocalDateTime.now();
+        Booking last = saveBooking(item1, booker1, now.minusDays(3), now.minusDays(2), Status.APPROVED);
+        Booking next = saveBooking(item1, booker2, now.plusDays(1), now.plusDays(2), Status.APPROVED);
+        bookingPointerService.refresh(List.of(item1.getId(), item2.getId()), now.minusDays(4));
+        assertThat(item1.getNextApprovedBooking().getBookingId()).isEqualTo(last.getId());
+
+        ItemWithBookingsAndComments stale = itemService.getItemForOwner(owner.getId()).getFirst();
+        assertThat(stale.getLastBooking().getId()).isEqualTo(last.getId());
+        assertThat(stale.getNextBooking().getId()).isEqualTo(next.getId());
+
+        bookingPointerRoller.roll();
+
+        assertThat(BookingPointerService.isFresh(item1, LocalDateTime.now())).isTrue();
+        assertThat(item1.getLastApprovedBooking().getBookingId()).isEqualTo(last.getId());
+        assertThat(item1.getNextApprovedBooking().getBookingId()).isEqualTo(next.getId());
+        assertThat(item2.getBookingPointersValidUntil()).isEqualTo(BookingPointerService.NEVER);
+        assertThat(itemService.getItemForOwner(owner.getId()).getFirst()).usingRecursiveComparison().isEqualTo(stale);
+    }
+
+    @Test
+    void bookingPointers_whenBookingApproved_shouldPointAtIt() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        saveBooking(item1, booker1, now.plusDays(5), now.plusDays(6), Status.APPROVED);
+        Booking waiting = saveBooking(item1, booker2, now.plusDays(1), now.plusDays(2), Status.WAITING);
+        bookingPointerService.refresh(List.of(item1.getId()));
+
+        bookingService.updateStatus(owner.getId(), waiting.getId(), true);
+
+        assertThat(item1.getNextApprovedBooking().getBookingId()).isEqualTo(waiting.getId());
+        assertThat(item1.getBookingPointersValidUntil()).isEqualTo(waiting.getStart());
+        ItemWithBookingsAndComments dto = itemService.getItemForOwner(owner.getId()).getFirst();
+        assertThat(dto.getNextBooking().getId()).isEqualTo(waiting.getId());
+        assertThat(dto.getNextBooking().getBookerId()).isEqualTo(booker2.getId());
+    }
+
+    @Test
+    void getItemETag_whenCommentAdded_shouldChange() {
+        String before = itemService.getItemETag(booker1.getId(), item1.getId());
+
+        commentRepository.save(Comment.builder()
+                .text("Отличная дрель")
+                .item(item1)
+                .author(booker1)
+                .created(LocalDateTime.now())
+                .build());
+
+        assertThat(itemService.getItemETag(booker1.getId(), item1.getId())).isNotEqualTo(before);
+    }
+
+    @Test
+    void getItemETag_whenNextBookingApproved_shouldChangeOnlyForOwner() throws Exception {
+        Booking waiting = saveBooking(item1, booker1, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2),
+                Status.WAITING);
+        String ownerBefore = itemService.getItemETag(owner.getId(), item1.getId());
+        String bookerBefore = itemService.getItemETag(booker1.getId(), item1.getId());
+
+        bookingService.updateStatus(owner.getId(), waiting.getId(), true);
+
+        assertThat(itemService.getItemETag(owner.getId(), item1.getId())).isNotEqualTo(ownerBefore);
+        assertThat(itemService.getItemETag(booker1.getId(), item1.getId())).isEqualTo(bookerBefore);
+    }
+
+    @Test
+    void searchItems_whenWindowGiven_shouldSkipItemsWithOverlappingApprovedBooking() {
+        LocalDateTime start = LocalDateTime.now().plusDays(10).truncatedTo(ChronoUnit.SECONDS);
+        LocalDateTime end = start.plusDays(1);
+        saveBooking(item1, booker1, start.plusHours(12), end.plusDays(1), Status.APPROVED);
+        saveBooking(item2, booker1, start.minusDays(1), start, Status.APPROVED);
+        saveBooking(item2, booker2, start, end, Status.WAITING);
+        saveBooking(item2, booker2, start.plusHours(1), start.plusHours(2), Status.REJECTED);
+
+        assertThat(itemService.searchItems("р", start, end))
+                .extracting(ItemResponseDto::getId)
+                .containsExactly(item2.getId());
+        assertThat(itemService.searchItems("р", end.plusDays(1), end.plusDays(2)))
+                .extracting(ItemResponseDto::getId)
+                .containsExactlyInAnyOrder(item1.getId(), item2.getId());
+    }
+
+    @Test
+    void availability_whenBookingApproved_shouldShowItAfterCommit() throws Exception {
+        LocalDateTime from = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.DAYS);
+        LocalDateTime to = from.plusDays(4);
+        Booking waiting = saveBooking(item1, booker1, from.plusDays(1), from.plusDays(2), Status.WAITING);
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        try {
+            assertThat(itemService.getItemAvailability(item1.getId(), from, to, Duration.ofDays(1)).getRuns())
+                    .containsExactly(4);
+
+            bookingService.updateStatus(owner.getId(), waiting.getId(), true);
+
+            assertThat(itemService.getItemAvailability(item1.getId(), from, to, Duration.ofDays(1)).getRuns())
+                    .containsExactly(1, 1, 2);
+        } finally {
+            TestTransaction.start();
+            commentRepository.deleteAll();
+            bookingRepository.deleteAll();
+            itemRepository.deleteAll();
+            userRepository.deleteAll();
+            TestTransaction.flagForCommit();
+        }
+    }
+
+    private Booking saveBooking(Item item, User booker, LocalDateTime start, LocalDateTime end, Status status) {
+        return bookingRepository.save(Booking.builder()
+                .start(start)
+                .end(end)
+                .item(item)
+                .booker(booker)
+                .status(status)
+                .build());
+    }
+}
@@ -7,19 +7,24 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.booking.dal.BookingPeriod;
 import ru.practicum.shareit.booking.dal.BookingRepository;
 import ru.practicum.shareit.booking.dto.BookingForItemDto;
 import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.Status;
 import ru.practicum.shareit.error.exception.NotFoundException;
+import ru.practicum.shareit.error.exception.ValidationException;
 import ru.practicum.shareit.item.dal.CommentRepository;
 import ru.practicum.shareit.item.dal.ItemRepository;
 import ru.practicum.shareit.item.dto.*;
 import ru.practicum.shareit.item.mapper.CommentMapper;
 import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.model.BookingPointer;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.ItemCalendar;
+import ru.practicum.shareit.item.service.ItemCalendarCache;
 import ru.practicum.shareit.item.service.ItemServiceImpl;
 import ru.practicum.shareit.request.dal.ItemRequestRepository;
 import ru.practicum.shareit.request.model.ItemRequest;
@@ -27,6 +32,7 @@ import ru.practicum.shareit.user.dal.UserRepository;
 import ru.practicum.shareit.user.model.User;
 
 import java.nio.file.AccessDeniedException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -63,6 +69,9 @@ public class ItemServiceImplTest {
     @Mock
     private CommentMapper commentMapper;
 
+    @Mock
+    private ItemCalendarCache itemCalendarCache;
+
     @InjectMocks
     private ItemServiceImpl itemService;
 
@@ -280,14 +289,10 @@ public class ItemServiceImplTest {
 
             when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
             when(itemMapper.toItemWithBookingsAndComments(item)).thenReturn(expectedDto);
-            when(bookingRepository.findByItemIdAndEndBeforeOrderByEndDesc(
-                    eq(itemId),
-                    any(LocalDateTime.class)))
-                    .thenReturn(List.of(lastBooking));
-            when(bookingRepository.findByItemIdAndStartAfterOrderByStartAsc(
-                    eq(itemId),
-                    any(LocalDateTime.class)))
-                    .thenReturn(List.of(nextBooking));
+            when(bookingRepository.findLastBookingsForItems(List.of(itemId)))
+                    .thenReturn(Map.of(itemId, lastBooking));
+            when(bookingRepository.findNextBookingsForItems(List.of(itemId)))
+                    .thenReturn(Map.of(itemId, nextBooking));
             when(commentRepository.findByItemId(itemId)).thenReturn(List.of(comment));
             when(commentMapper.toCommentResponseDto(comment)).thenReturn(commentDto);
             when(bookingMapper.toBookingForItemDto(lastBooking)).thenReturn(lastBookingDto);
@@ -302,6 +307,36 @@ public class ItemServiceImplTest {
             assertThat(result.getComments().get(0).getText()).isEqualTo("Отличная дрель!");
     }
 
+    @Test
+    void getItemById_whenOwnerRequestsAndPointersFresh_shouldSkipBookingQueries() {
+        BookingPointer next = BookingPointer.builder()
+                .bookingId(2L)
+                .bookerId(booker.getId())
+                .start(LocalDateTime.now().plusDays(1))
+                .end(LocalDateTime.now().plusDays(2))
+                .build();
+        item.setNextApprovedBooking(next);
+        item.setBookingPointersValidUntil(next.getStart());
+        BookingForItemDto nextBookingDto = BookingForItemDto.builder()
+                .id(2L)
+                .bookerId(booker.getId())
+                .build();
+
+        when(itemRepository.findById(1L)).thenReturn(Optional.of(item));
+        when(itemMapper.toItemWithBookingsAndComments(item)).thenReturn(ItemWithBookingsAndComments.builder()
+                .id(1L)
+                .build());
+        when(bookingMapper.toBookingForItemDto(next)).thenReturn(nextBookingDto);
+        when(commentRepository.findByItemId(1L)).thenReturn(List.of());
+
+        ItemWithBookingsAndComments result = itemService.getItemById(owner.getId(), 1L);
+
+        assertThat(result.getLastBooking()).isNull();
+        assertThat(result.getNextBooking()).isEqualTo(nextBookingDto);
+        verify(bookingRepository, never()).findLastBookingsForItems(anyList());
+        verify(bookingRepository, never()).findNextBookingsForItems(anyList());
+    }
+
     @Test
     void getItemById_whenNonOwnerRequests_shouldReturnWithoutBookings() {
         Long userId = 999L;
@@ -340,8 +375,8 @@ public class ItemServiceImplTest {
         assertThat(result.getLastBooking()).isNull();
         assertThat(result.getNextBooking()).isNull();
         assertThat(result.getComments()).hasSize(1);
-        verify(bookingRepository, never()).findByItemIdAndEndBeforeOrderByEndDesc(anyLong(), any());
-        verify(bookingRepository, never()).findByItemIdAndStartAfterOrderByStartAsc(anyLong(), any());
+        verify(bookingRepository, never()).findLastBookingsForItems(anyList());
+        verify(bookingRepository, never()).findNextBookingsForItems(anyList());
     }
 
     @Test
@@ -358,7 +393,7 @@ public class ItemServiceImplTest {
         when(itemRepository.searchAvailableItems(searchText)).thenReturn(items);
         when(itemMapper.toItemResponseDto(item)).thenReturn(itemDto);
 
-        List<ItemResponseDto> result = itemService.searchItems(searchText);
+        List<ItemResponseDto> result = itemService.searchItems(searchText, null, null);
 
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getName()).containsIgnoringCase("дрель");
@@ -368,7 +403,7 @@ public class ItemServiceImplTest {
     void searchItems_whenEmptyText_shouldReturnEmptyList() {
         String searchText = "   ";
 
-        List<ItemResponseDto> result = itemService.searchItems(searchText);
+        List<ItemResponseDto> result = itemService.searchItems(searchText, null, null);
 
         assertThat(result).isEmpty();
         verify(itemRepository, never()).searchAvailableItems(anyString());
@@ -418,9 +453,9 @@ public class ItemServiceImplTest {
         when(userRepository.findById(ownerId)).thenReturn(Optional.of(owner));
         when(itemRepository.findByOwnerIdOrderById(ownerId)).thenReturn(items);
         when(bookingRepository.findLastBookingsForItems(List.of(1L)))
-                .thenReturn(Map.of(1L, List.of(lastBooking)));
+                .thenReturn(Map.of(1L, lastBooking));
         when(bookingRepository.findNextBookingsForItems(List.of(1L)))
-                .thenReturn(Map.of(1L, List.of()));
+                .thenReturn(Map.of());
         when(commentRepository.findByItemIdIn(List.of(1L)))
                 .thenReturn(List.of(comment));
         when(itemMapper.toItemWithBookingsAndComments(item)).thenReturn(expectedDto);
@@ -492,6 +527,30 @@ public class ItemServiceImplTest {
         verify(commentRepository).save(comment);
     }
 
+    @Test
+    void searchItems_whenWindowGiven_shouldExcludeBookedItems() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        LocalDateTime end = start.plusDays(1);
+        ItemResponseDto itemDto = ItemResponseDto.builder().id(1L).name("Дрель").build();
+
+        when(itemRepository.searchAvailableItemsBetween("дрель", start, end)).thenReturn(List.of(item));
+        when(itemMapper.toItemResponseDto(item)).thenReturn(itemDto);
+
+        assertThat(itemService.searchItems(" дрель ", start, end)).containsExactly(itemDto);
+        verify(itemRepository, never()).searchAvailableItems(anyString());
+    }
+
+    @Test
+    void searchItems_whenWindowIncomplete_shouldThrowValidationException() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+
+        assertThatThrownBy(() -> itemService.searchItems("дрель", start, null))
+                .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> itemService.searchItems("дрель", start, start.minusHours(1)))
+                .isInstanceOf(ValidationException.class);
+        verifyNoInteractions(itemRepository);
+    }
+
     @Test
     void deleteItem_whenOwnerDeletes_shouldDeleteSuccessfully() throws AccessDeniedException {
         Long ownerId = 1L;
@@ -503,6 +562,7 @@ public class ItemServiceImplTest {
         itemService.deleteItem(ownerId, itemId);
 
         verify(itemRepository).deleteById(itemId);
+        verify(itemCalendarCache).invalidate(itemId);
     }
 
     @Test
@@ -516,5 +576,34 @@ public class ItemServiceImplTest {
                 .isInstanceOf(AccessDeniedException.class)
                 .hasMessage("Access denied!");
     }
-}
 
+    @Test
+    void getItemAvailability_whenBookingsCoverSlots_shouldReturnRuns() {
+        LocalDateTime from = LocalDateTime.of(2030, 1, 1, 0, 0);
+        LocalDateTime to = from.plusDays(1);
+        ItemCalendar calendar = ItemCalendar.of(from, List.of(
+                new BookingPeriod(from.plusHours(3), from.plusHours(7)),
+                new BookingPeriod(from.plusHours(4), from.plusHours(5)),
+                new BookingPeriod(from.plusHours(19), from.plusMinutes(19 * 60 + 30)),
+                new BookingPeriod(from.plusHours(20), from.plusDays(2))
+        ));
+        when(itemCalendarCache.calendar(1L, from, to)).thenReturn(calendar);
+
+        ItemAvailabilityDto result = itemService.getItemAvailability(1L, from, to, Duration.ofHours(6));
+
+        assertThat(result.getSlots()).isEqualTo(4);
+        assertThat(result.getGranularity()).isEqualTo("PT6H");
+        assertThat(result.getRuns()).containsExactly(0, 2, 1, 1);
+    }
+
+    @Test
+    void getItemAvailability_whenTooManySlots_shouldThrowValidationException() {
+        LocalDateTime from = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+        assertThatThrownBy(() -> itemService.getItemAvailability(1L, from, from.plusYears(1), Duration.ofMinutes(1)))
+                .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> itemService.getItemAvailability(1L, from, from, Duration.ofHours(1)))
+                .isInstanceOf(ValidationException.class);
+        verifyNoInteractions(itemCalendarCache);
+    }
+}
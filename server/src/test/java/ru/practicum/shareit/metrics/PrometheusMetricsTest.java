@@ -0,0 +1,54 @@
+package ru.practicum.shareit.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@DisplayName("Prometheus metrics tests")
+class PrometheusMetricsTest {
+    private static final String USER_JSON = "{\"name\":\"Metrics\",\"email\":\"metrics@example.com\"}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void prometheus_ExposesLatencyHistogramsAndPayloadSizesPerRoute() throws Exception {
+        mockMvc.perform(post("/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(USER_JSON))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/users/{userId}", 999_999)).andExpect(status().isNotFound());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThat(scrape)
+                .containsPattern("http_server_requests_seconds_bucket\\{[^}]*method=\"POST\"[^}]*uri=\"/users\",le=\"0\\.001\"}")
+                .containsPattern("http_server_requests_seconds_bucket\\{[^}]*method=\"POST\"[^}]*uri=\"/users\",le=\"30\\.0\"}")
+                .containsPattern("http_server_requests_seconds_count\\{[^}]*status=\"404\"[^}]*uri=\"/users/\\{userId}\"")
+                .containsPattern("http_server_request_size_bytes_sum\\{method=\"POST\",status=\"200\",uri=\"/users\"} "
+                        + USER_JSON.length())
+                .containsPattern("http_server_response_size_bytes_count\\{encoding=\"identity\",method=\"GET\","
+                        + "status=\"404\",uri=\"/users/\\{userId}\"} 1");
+    }
+}
@@ -18,6 +18,8 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -141,6 +143,19 @@ class ItemRequestControllerTest {
                 .andExpect(jsonPath("$.items[0].name").value("Электрическая дрель"));
     }
 
+    @Test
+    void getRequestById_MatchingIfNoneMatch_ReturnsNotModified() throws Exception {
+        when(itemRequestService.getRequestETag(1L, 1L)).thenReturn("1-0-1-0");
+
+        mockMvc.perform(get("/requests/1")
+                        .header("X-Sharer-User-Id", 1L)
+                        .header("If-None-Match", "\"1-0-1-0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"1-0-1-0\""));
+
+        verify(itemRequestService, never()).getRequestById(anyLong(), anyLong());
+    }
+
     @Test
     void getRequestById_RequestNotFound_ReturnsNotFound() throws Exception {
         when(itemRequestService.getRequestById(anyLong(), anyLong()))
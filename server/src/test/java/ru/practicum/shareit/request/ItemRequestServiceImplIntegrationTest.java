@@ -8,6 +8,9 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.error.exception.NotFoundException;
+import ru.practicum.shareit.item.dal.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.ItemService;
 import ru.practicum.shareit.request.dal.ItemRequestRepository;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestResponseDto;
@@ -17,6 +20,7 @@ import ru.practicum.shareit.request.service.ItemRequestService;
 import ru.practicum.shareit.user.dal.UserRepository;
 import ru.practicum.shareit.user.model.User;
 
+import java.nio.file.AccessDeniedException;
 import java.time.LocalDateTime;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -37,6 +41,12 @@ public class ItemRequestServiceImplIntegrationTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ItemService itemService;
+
     @Autowired
     private ItemRequestMapper itemRequestMapper;
 
@@ -137,4 +147,49 @@ public class ItemRequestServiceImplIntegrationTest {
 
         assertThat(savedRequest.getRequester().getId()).isEqualTo(user.getId());
     }
+
+    @Test
+    void getRequestETag_whenItemAddedOrRenamed_shouldChange() {
+        ItemRequestResponseDto request = itemRequestService.createRequest(user.getId(), requestDto);
+        String initial = itemRequestService.getRequestETag(user.getId(), request.getId());
+
+        Item item = itemRepository.save(Item.builder()
+                .name("Дрель")
+                .description("Ударная дрель")
+                .available(true)
+                .owner(user)
+                .request(itemRequestRepository.getReferenceById(request.getId()))
+                .build());
+        String withItem = itemRequestService.getRequestETag(user.getId(), request.getId());
+
+        item.setName("Шуруповёрт");
+        itemRepository.save(item);
+        String renamed = itemRequestService.getRequestETag(user.getId(), request.getId());
+
+        assertThat(withItem).isNotEqualTo(initial);
+        assertThat(renamed).isNotEqualTo(withItem);
+    }
+
+    @Test
+    void getRequestETag_whenAnsweringItemReplaced_shouldChange() throws AccessDeniedException {
+        ItemRequestResponseDto request = itemRequestService.createRequest(user.getId(), requestDto);
+        Item drill = itemRepository.save(answer(request.getId(), "Дрель"));
+        String withDrill = itemRequestService.getRequestETag(user.getId(), request.getId());
+
+        itemService.deleteItem(user.getId(), drill.getId());
+        itemRepository.save(answer(request.getId(), "Перфоратор"));
+        String withReplacement = itemRequestService.getRequestETag(user.getId(), request.getId());
+
+        assertThat(withReplacement).isNotEqualTo(withDrill);
+    }
+
+    private Item answer(Long requestId, String name) {
+        return Item.builder()
+                .name(name)
+                .description("Ответ на запрос")
+                .available(true)
+                .owner(user)
+                .request(itemRequestRepository.getReferenceById(requestId))
+                .build();
+    }
 }
@@ -8,15 +8,18 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.user.dto.UserCreateDto;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.dto.UserUpdateDto;
+import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserService;
 
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -101,6 +104,18 @@ class UserControllerTest {
         verify(userService, times(1)).updateUser(eq(userId), any(UserUpdateDto.class));
     }
 
+    @Test
+    void update_ConcurrentModification_ShouldReturnConflict() throws Exception {
+        when(userService.updateUser(eq(1L), any(UserUpdateDto.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(User.class, 1L));
+
+        mockMvc.perform(patch("/users/{userId}", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(userUpdateJson))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409));
+    }
+
     @Test
     void delete_ValidUserId_ShouldReturnNoContent() throws Exception {
         Long userId = 1L;
@@ -126,6 +141,30 @@ class UserControllerTest {
         verify(userService, times(1)).getUserById(userId);
     }
 
+    @Test
+    void getById_ShouldReturnETag() throws Exception {
+        when(userService.getUserETag(1L)).thenReturn("1-0");
+        when(userService.getUserById(1L)).thenReturn(userDto);
+
+        mockMvc.perform(get("/users/{userId}", 1L))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-0\""))
+                .andExpect(jsonPath("$.id").value(1L));
+    }
+
+    @Test
+    void getById_MatchingIfNoneMatch_ShouldReturnNotModified() throws Exception {
+        when(userService.getUserETag(1L)).thenReturn("1-0");
+
+        mockMvc.perform(get("/users/{userId}", 1L)
+                        .header("If-None-Match", "\"1-0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"1-0\""))
+                .andExpect(content().string(""));
+
+        verify(userService, never()).getUserById(anyLong());
+    }
+
     @Test
     void getAll_ShouldReturnListOfUsers() throws Exception {
         List<UserDto> users = List.of(
@@ -115,6 +115,22 @@ public class UserServiceImplIntegrationTest {
         assertThat(unchangedUser.getName()).isEqualTo("User Name");
     }
 
+    @Test
+    void getUserETag_whenUserUpdated_shouldChange() {
+        String before = userService.getUserETag(existingUser.getId());
+
+        userService.updateUser(existingUser.getId(), UserUpdateDto.builder().name("Updated Name").build());
+
+        assertThat(userService.getUserETag(existingUser.getId())).isNotEqualTo(before);
+    }
+
+    @Test
+    void getUserETag_whenUserNotFound_shouldThrowNotFoundException() {
+        assertThatThrownBy(() -> userService.getUserETag(999L))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessageContaining("User");
+    }
+
     @Test
     void updateUser_whenUserNotFound_shouldThrowNotFoundException() {
         Long nonExistentUserId = 999L;
@@ -15,6 +15,9 @@ import ru.practicum.shareit.user.dto.UserUpdateDto;
 import ru.practicum.shareit.user.mapper.UserMapper;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserServiceImpl;
+import ru.practicum.shareit.item.service.BookingPointerService;
+import ru.practicum.shareit.item.service.ItemCalendarCache;
+import ru.practicum.shareit.booking.dal.BookingRepository;
 
 import java.util.List;
 import java.util.Optional;
@@ -36,6 +39,15 @@ class UserServiceImplTest {
     @Mock
     private UserMapper userMapper;
 
+    @Mock
+    private BookingPointerService bookingPointerService;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private ItemCalendarCache itemCalendarCache;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -199,11 +211,15 @@ class UserServiceImplTest {
     @Test
     void deleteUser_ExistingUser_ShouldDeleteUser() {
         when(userRepository.existsById(1L)).thenReturn(true);
+        when(bookingRepository.findApprovedItemIdsOfUser(1L)).thenReturn(List.of(5L, 7L));
         doNothing().when(userRepository).deleteById(1L);
 
         userService.deleteUser(1L);
 
         verify(userRepository, times(1)).existsById(1L);
+        verify(bookingPointerService).invalidateForBooker(1L);
+        verify(itemCalendarCache).invalidate(5L);
+        verify(itemCalendarCache).invalidate(7L);
         verify(userRepository, times(1)).deleteById(1L);
     }
 